@@ -0,0 +1,63 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.standard.util.Ut;
+import io.jsonwebtoken.JwtParser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+/**
+ * 액세스 토큰 검증 비용 비교
+ * legacy: 요청마다 키와 파서를 새로 만드는 기존 방식
+ * prebuiltParser: 미리 만든 파서로 서명 검증만 수행
+ * cached: AuthTokenService (검증 결과 캐시 적중)
+ */
+@State(Scope.Benchmark)
+public class AuthTokenServiceBenchmark {
+    static final String SECRET = "driojtvjoksp[erjkbzijbtslijslijfkl3249u0d40j3ijt09fjq839awj4m90";
+
+    private AuthTokenService authTokenService;
+    private JwtParser jwtParser;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        authTokenService = create();
+        jwtParser = Ut.jwt.parser(SECRET);
+        accessToken = authTokenService.genAccessToken(
+                Member.builder()
+                        .id(1L)
+                        .email("user1@gmail.com")
+                        .password("N/A")
+                        .name("유저1")
+                        .build()
+        );
+    }
+
+    static AuthTokenService create() {
+        AuthTokenService authTokenService = new AuthTokenService();
+        ReflectionTestUtils.setField(authTokenService, "jwtSecretKey", SECRET);
+        ReflectionTestUtils.setField(authTokenService, "accessTokenExpirationSeconds", 60 * 20);
+        ReflectionTestUtils.setField(authTokenService, "verifiedCacheSize", 10_000);
+        authTokenService.init();
+
+        return authTokenService;
+    }
+
+    @Benchmark
+    public Map<String, Object> legacy() {
+        return Ut.jwt.payload(SECRET, accessToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> prebuiltParser() {
+        return Ut.jwt.payload(jwtParser, accessToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> cached() {
+        return authTokenService.payload(accessToken);
+    }
+}
@@ -0,0 +1,67 @@
+package com.back.domain.order.dto;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.order.entity.Order;
+import com.back.domain.order.entity.OrderItem;
+import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.product.entity.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 관리자 주문 목록 DTO 변환 비용 (주문 + 주문자 + 주문 상세 -> OrderDtoWithName)
+ */
+@State(Scope.Benchmark)
+public class OrderDtoWithNameBenchmark {
+    @Param({"1", "10"})
+    private int itemsPerOrder;
+
+    private List<Order> orders;
+
+    @Setup
+    public void setup() {
+        Member customer = Member.builder()
+                .id(1L)
+                .email("user1@gmail.com")
+                .password("N/A")
+                .name("유저1")
+                .build();
+
+        orders = LongStream.rangeClosed(1, 20)
+                .mapToObj(orderId -> {
+                    Order order = Order.builder()
+                            .id(orderId)
+                            .createdDate(LocalDateTime.now())
+                            .customer(customer)
+                            .customerAddress("서울시 강남구")
+                            .status(OrderStatus.ORDERED)
+                            .build();
+
+                    for (long i = 1; i <= itemsPerOrder; i++) {
+                        Product product = Product.builder()
+                                .id(i)
+                                .productName("상품" + i)
+                                .price(4500)
+                                .build();
+
+                        OrderItem orderItem = new OrderItem(order, product, 1, product.getPrice());
+                        ReflectionTestUtils.setField(orderItem, "id", orderId * 100 + i);
+                        order.addOrderItem(orderItem);
+                    }
+
+                    return order;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public List<OrderDtoWithName> orderDtoWithName() {
+        return orders.stream()
+                .map(OrderDtoWithName::new)
+                .toList();
+    }
+}
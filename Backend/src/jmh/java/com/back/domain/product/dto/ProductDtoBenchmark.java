@@ -0,0 +1,55 @@
+package com.back.domain.product.dto;
+
+import com.back.domain.product.entity.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 상품 목록 응답 DTO 변환 비용 (엔티티 -> ProductDto, Page -> PageDto)
+ */
+@State(Scope.Benchmark)
+public class ProductDtoBenchmark {
+    @Param({"5", "100"})
+    private int pageSize;
+
+    private Product product;
+    private Page<Product> productPage;
+
+    @Setup
+    public void setup() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Product> products = LongStream.rangeClosed(1, pageSize)
+                .<Product>mapToObj(id -> Product.builder()
+                        .id(id)
+                        .createdDate(now)
+                        .modifiedDate(now)
+                        .productName("상품" + id)
+                        .price(4500)
+                        .imageUrl("https://storage.googleapis.com/bucket/product-%d.png".formatted(id))
+                        .category("커피")
+                        .description("설명" + id)
+                        .orderable(true)
+                        .build())
+                .toList();
+
+        product = products.get(0);
+        productPage = new PageImpl<>(products, PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @Benchmark
+    public ProductDto productDto() {
+        return new ProductDto(product);
+    }
+
+    @Benchmark
+    public PageDto pageDto() {
+        return new PageDto(productPage);
+    }
+}
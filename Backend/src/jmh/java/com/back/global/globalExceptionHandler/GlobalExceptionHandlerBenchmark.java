@@ -0,0 +1,86 @@
+package com.back.global.globalExceptionHandler;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.RsData;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 예외 응답 생성 비용 (예외 생성 + 핸들러에서 RsData 응답 조립)
+ * 검증 실패 응답은 필드 오류 메시지를 정렬, 연결하므로 오류 수에 비례해 비용이 늘어난다
+ */
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+    record JoinReqBody(
+            @NotBlank @Email String email,
+            @NotBlank @Size(min = 8) String password,
+            @NotBlank String name
+    ) {
+    }
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ValidatorFactory validatorFactory;
+    private ConstraintViolationException constraintViolationException;
+    private MethodArgumentNotValidException methodArgumentNotValidException;
+
+    @Setup
+    public void setup() throws Exception {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        Validator validator = validatorFactory.getValidator();
+        JoinReqBody reqBody = new JoinReqBody("not-an-email", "1234", "");
+
+        constraintViolationException = new ConstraintViolationException(validator.validate(reqBody));
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(reqBody, "joinReqBody");
+        bindingResult.rejectValue("email", "Email", "올바른 형식의 이메일 주소여야 합니다");
+        bindingResult.rejectValue("password", "Size", "크기가 8에서 2147483647 사이여야 합니다");
+        bindingResult.rejectValue("name", "NotBlank", "공백일 수 없습니다");
+
+        methodArgumentNotValidException = new MethodArgumentNotValidException(
+                new MethodParameter(GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("join", JoinReqBody.class), 0),
+                bindingResult
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    // MethodParameter 생성용
+    void join(JoinReqBody reqBody) {
+    }
+
+    @Benchmark
+    public ResponseEntity<RsData<Void>> serviceException() {
+        return handler.handle(new ServiceException(404, "존재하지 않는 상품입니다."));
+    }
+
+    @Benchmark
+    public ResponseEntity<RsData<Void>> noSuchElementException() {
+        return handler.handle(new NoSuchElementException());
+    }
+
+    @Benchmark
+    public ResponseEntity<RsData<Void>> constraintViolationException() {
+        return handler.handle(constraintViolationException);
+    }
+
+    @Benchmark
+    public ResponseEntity<RsData<Void>> methodArgumentNotValidException() {
+        return handler.handle(methodArgumentNotValidException);
+    }
+}
@@ -0,0 +1,98 @@
+package com.back.global.security;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.AuthTokenService;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.member.member.service.TokenRevocationService;
+import com.back.global.rq.Rq;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 인증 필터의 요청당 비용 (Authorization 헤더 / 쿠키 파싱 + 액세스 토큰 검증 + 폐기 여부 확인 + SecurityContext 설정)
+ * anonymous: 인증 정보가 없는 요청 (헤더, 쿠키 조회만 하고 통과)
+ */
+@State(Scope.Benchmark)
+public class CustomAuthenticationFilterBenchmark {
+    private static final String SECRET = "driojtvjoksp[erjkbzijbtslijslijfkl3249u0d40j3ijt09fjq839awj4m90";
+
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    private MemberService memberService;
+    private Exchange header;
+    private Exchange cookie;
+    private Exchange anonymous;
+
+    private record Exchange(CustomAuthenticationFilter filter, MockHttpServletRequest request, MockHttpServletResponse response) {
+    }
+
+    @Setup
+    public void setup() {
+        AuthTokenService authTokenService = new AuthTokenService();
+        ReflectionTestUtils.setField(authTokenService, "jwtSecretKey", SECRET);
+        ReflectionTestUtils.setField(authTokenService, "accessTokenExpirationSeconds", 60 * 20);
+        ReflectionTestUtils.setField(authTokenService, "verifiedCacheSize", 10_000);
+        ReflectionTestUtils.invokeMethod(authTokenService, "init");
+
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(null, null);
+        ReflectionTestUtils.setField(tokenRevocationService, "accessTokenExpirationSeconds", 60 * 20);
+        ReflectionTestUtils.setField(tokenRevocationService, "bucketSeconds", 60);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedPerBucket", 10_000);
+        ReflectionTestUtils.invokeMethod(tokenRevocationService, "init");
+
+        memberService = new MemberService(null, authTokenService, null, null, tokenRevocationService, null, null);
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("user1@gmail.com")
+                .password("N/A")
+                .name("유저1")
+                .build();
+        String accessToken = memberService.genAccessToken(member);
+
+        header = exchange();
+        header.request().addHeader("Authorization", "Bearer " + member.getApiKey() + " " + accessToken);
+
+        cookie = exchange();
+        cookie.request().setCookies(
+                new Cookie("JSESSIONID", "5F3E1A2B"),
+                new Cookie("apiKey", member.getApiKey()),
+                new Cookie("accessToken", accessToken)
+        );
+
+        anonymous = exchange();
+    }
+
+    private Exchange exchange() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/info");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        return new Exchange(new CustomAuthenticationFilter(memberService, new Rq(request, response)), request, response);
+    }
+
+    private void doFilter(Exchange exchange) throws Exception {
+        exchange.filter().doFilter(exchange.request(), exchange.response(), filterChain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void filterWithValidAccessToken() throws Exception {
+        doFilter(header);
+    }
+
+    @Benchmark
+    public void filterWithCookies() throws Exception {
+        doFilter(cookie);
+    }
+
+    @Benchmark
+    public void filterAnonymous() throws Exception {
+        doFilter(anonymous);
+    }
+}
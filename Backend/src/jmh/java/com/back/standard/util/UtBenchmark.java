@@ -0,0 +1,89 @@
+package com.back.standard.util;
+
+import com.back.global.rsData.RsData;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Ut 유틸 비용
+ * jwt: 토큰 발급 (비밀키 문자열 / 미리 만든 키), 토큰 검증 (매번 파서 생성 / 미리 만든 파서)
+ * json: RsData 직렬화 (본문 없음 / 목록 본문)
+ */
+@State(Scope.Benchmark)
+public class UtBenchmark {
+    private static final String SECRET = "driojtvjoksp[erjkbzijbtslijslijfkl3249u0d40j3ijt09fjq839awj4m90";
+
+    private final Map<String, Object> body = Map.of(
+            "id", 1L,
+            "email", "user1@gmail.com",
+            "name", "유저1",
+            "isAdmin", false,
+            "jti", "0f8fad5b-d9cb-469f-a165-70867728950e"
+    );
+
+    private Key secretKey;
+    private JwtParser jwtParser;
+    private String accessToken;
+
+    private RsData<Void> rsDataWithoutBody;
+    private RsData<List<Map<String, Object>>> rsDataWithList;
+
+    @Setup
+    public void setup() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtParser = Ut.jwt.parser(SECRET);
+        accessToken = Ut.jwt.toString(secretKey, 60 * 20, body);
+
+        // 스프링 부트 기본 ObjectMapper와 같은 설정 (AppConfig에서 주입되는 값)
+        Ut.json.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        rsDataWithoutBody = RsData.of(401, "액세스 토큰이 만료되었습니다. 토큰을 갱신해주세요.");
+        rsDataWithList = RsData.successOf(
+                IntStream.rangeClosed(1, 20)
+                        .mapToObj(i -> Map.<String, Object>of(
+                                "id", (long) i,
+                                "productName", "상품" + i,
+                                "price", 1000 * i,
+                                "orderable", true
+                        ))
+                        .toList()
+        );
+    }
+
+    @Benchmark
+    public String jwtToStringWithSecret() {
+        return Ut.jwt.toString(SECRET, 60 * 20, body);
+    }
+
+    @Benchmark
+    public String jwtToStringWithKey() {
+        return Ut.jwt.toString(secretKey, 60 * 20, body);
+    }
+
+    @Benchmark
+    public Map<String, Object> jwtPayloadWithSecret() {
+        return Ut.jwt.payload(SECRET, accessToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> jwtPayloadWithParser() {
+        return Ut.jwt.payload(jwtParser, accessToken);
+    }
+
+    @Benchmark
+    public String jsonToStringRsData() {
+        return Ut.json.toString(rsDataWithoutBody);
+    }
+
+    @Benchmark
+    public String jsonToStringRsDataWithList() {
+        return Ut.json.toString(rsDataWithList);
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.domain.delivery.dto;
+
+/**
+ * 배달 가능 여부 판정 결과
+ * @param storeName 배달을 담당할 매장
+ * @param estimatedMinutes 예상 배달 소요 시간 (분)
+ */
+public record DeliveryEstimate(
+        String storeName,
+        int estimatedMinutes
+) { }
@@ -0,0 +1,172 @@
+package com.back.domain.delivery.service;
+
+import com.back.domain.delivery.dto.DeliveryEstimate;
+import com.back.global.exception.ServiceException;
+import com.back.standard.cache.TtlCache;
+import com.back.standard.geo.GeoGridIndex;
+import com.back.standard.geo.GeoPoint;
+import com.back.standard.geo.GeoPolygon;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 배달 가능 지역 판정
+ * 주소 문자열은 로컬 지명 사전(gazetteer)으로 좌표를 구하고, 매장별 배달 구역(다각형)은 격자 인덱스로 조회한다
+ * 외부 API나 DB 조회 없이 메모리에서만 처리한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryZoneService {
+    private static final double GRID_CELL_DEGREES = 0.01; // 약 1km
+    private static final long GEOCODE_CACHE_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+    private static final Pattern ADDRESS_DELIMITER = Pattern.compile("[\\s,()]+"); // 주소를 단어로 나눌 때의 구분자
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.delivery.gazetteer:classpath:delivery/gazetteer.json}")
+    private Resource gazetteerResource;
+
+    @Value("${custom.delivery.zones:classpath:delivery/zones.json}")
+    private Resource zonesResource;
+
+    private Map<String, City> citiesByName; // 도시 이름, 별칭 -> 도시
+    private Map<String, List<Located>> placesByName; // 구, 역 이름 -> 도시별 위치 (같은 이름이 여러 도시에 있을 수 있음)
+    private GeoGridIndex<Zone> zoneIndex;
+
+    // 주소 문자열 -> 좌표 (같은 주소로 반복 주문하는 경우가 대부분)
+    private final TtlCache<String, Optional<GeoPoint>> geocodeCache = new TtlCache<>(10_000);
+
+    record City(
+            String name,
+            List<String> aliases,
+            double latitude,
+            double longitude,
+            boolean districtRequired, // 구/역까지 확인해야 하는 도시 (도시 중심 좌표로 대신하지 않음)
+            List<Place> places
+    ) { }
+
+    record Place(
+            String name,
+            double latitude,
+            double longitude
+    ) { }
+
+    private record Located(City city, Place place) { }
+
+    record Zone(
+            String storeName,
+            GeoPoint store,
+            int prepMinutes,
+            double minutesPerKm,
+            List<GeoPoint> polygon
+    ) { }
+
+    @PostConstruct
+    void init() throws IOException {
+        List<City> cities = read(gazetteerResource, new TypeReference<List<City>>() { });
+        citiesByName = new HashMap<>();
+        placesByName = new HashMap<>();
+
+        for (City city : cities) {
+            citiesByName.put(city.name(), city);
+            city.aliases().forEach(alias -> citiesByName.put(alias, city));
+            city.places().forEach(place -> placesByName
+                    .computeIfAbsent(place.name(), k -> new ArrayList<>())
+                    .add(new Located(city, place)));
+        }
+
+        List<Zone> zones = read(zonesResource, new TypeReference<List<Zone>>() { });
+        GeoGridIndex.Builder<Zone> builder = GeoGridIndex.builder(GRID_CELL_DEGREES);
+        zones.forEach(zone -> builder.add(new GeoPolygon(zone.polygon()), zone));
+        zoneIndex = builder.build();
+
+        log.info("배달 구역 {}개, 도시 {}개, 지명 {}개 로드", zones.size(), cities.size(), placesByName.size());
+    }
+
+    /**
+     * 주소의 배달 가능 여부와 예상 소요 시간
+     * @throws ServiceException 위치를 알 수 없거나 배달 구역 밖인 경우 (400)
+     */
+    public DeliveryEstimate estimate(String address) {
+        GeoPoint point = geocode(address)
+                .orElseThrow(() -> new ServiceException(400, "주소의 위치를 확인할 수 없습니다."));
+
+        Zone zone = zoneIndex.find(point)
+                .orElseThrow(() -> new ServiceException(400, "배달 가능 지역이 아닙니다."));
+
+        int travelMinutes = (int) Math.ceil(zone.store().distanceKm(point) * zone.minutesPerKm());
+
+        return new DeliveryEstimate(zone.storeName(), zone.prepMinutes() + travelMinutes);
+    }
+
+    /**
+     * 주소 문자열 -> 좌표
+     * 도시(서울, 부산광역시 등)를 먼저 정하고, 구/역은 그 도시 안에서만 찾는다
+     * 도시가 둘 이상 나오거나, 도시 없이 쓴 구 이름이 여러 도시에 있으면(중구, 강서구 등) 위치를 정할 수 없는 것으로 본다
+     */
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) return Optional.empty();
+
+        Optional<GeoPoint> cached = geocodeCache.get(address);
+        if (cached != null) return cached;
+
+        Optional<GeoPoint> point = locate(ADDRESS_DELIMITER.split(address.trim()));
+
+        geocodeCache.put(address, point, System.currentTimeMillis() + GEOCODE_CACHE_TTL_MILLIS);
+
+        return point;
+    }
+
+    private Optional<GeoPoint> locate(String[] words) {
+        Set<City> cities = new LinkedHashSet<>();
+        List<Located> places = new ArrayList<>(); // 주소에 나온 순서
+
+        for (String word : words) {
+            City city = citiesByName.get(word);
+            if (city != null) cities.add(city);
+
+            places.addAll(placesByName.getOrDefault(word, List.of()));
+        }
+
+        if (cities.size() > 1) return Optional.empty();
+
+        if (cities.size() == 1) {
+            City city = cities.iterator().next();
+
+            Optional<Place> place = places.stream()
+                    .filter(located -> located.city() == city)
+                    .map(Located::place)
+                    .findFirst();
+
+            if (place.isPresent()) return place.map(p -> new GeoPoint(p.latitude(), p.longitude()));
+            if (city.districtRequired()) return Optional.empty();
+
+            return Optional.of(new GeoPoint(city.latitude(), city.longitude()));
+        }
+
+        // 도시 없이 구/역만 쓴 경우: 한 도시로 정해질 때만
+        if (places.stream().map(Located::city).distinct().count() != 1) return Optional.empty();
+
+        Place place = places.get(0).place();
+
+        return Optional.of(new GeoPoint(place.latitude(), place.longitude()));
+    }
+
+    private <T> T read(Resource resource, TypeReference<T> type) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return objectMapper.readValue(inputStream, type);
+        }
+    }
+}
@@ -126,7 +126,6 @@ public class AddressController {
     ) {
         Member member = rq.getActor();
 
-        // 모든 주소의 기본 설정을 해제
         Address address = addressService.setDefaultAddress(member, addressId);
 
         return new RsData<>(
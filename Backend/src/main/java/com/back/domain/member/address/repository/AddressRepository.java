@@ -2,7 +2,11 @@ package com.back.domain.member.address.repository;
 
 import com.back.domain.member.address.entity.Address;
 import com.back.domain.member.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +15,21 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
 
     List<Address> findAllByMember(Member member);
     Optional<Address> findByMemberAndContent(Member member, String content);
+
+    // 기존 기본 주소와 새 기본 주소, 최대 두 행만 한 번에 갱신 (주소 개수와 무관)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Address a
+            set a.isDefault = case when a.id = :addressId then true else false end
+            where a.member.id = :memberId
+              and (a.isDefault = true or a.id = :addressId)
+            """)
+    int switchDefault(@Param("memberId") Long memberId, @Param("addressId") Long addressId);
+
+    @Query("select a.id from Address a where a.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Address a where a.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
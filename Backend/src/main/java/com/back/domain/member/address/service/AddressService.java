@@ -3,6 +3,7 @@ package com.back.domain.member.address.service;
 import com.back.domain.member.address.entity.Address;
 import com.back.domain.member.address.repository.AddressRepository;
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.repository.MemberRepository;
 import com.back.global.exception.ServiceException;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AddressService {
     private final AddressRepository addressRepository;
+    private final MemberRepository memberRepository;
 
     @Transactional
     public Address submitAddress(Member member, String content) {
@@ -60,6 +62,12 @@ public class AddressService {
         return addressRepository.save(address);
     }
 
+    /**
+     * 기본 주소 변경
+     * 회원 행을 잠가 같은 회원의 변경 요청을 직렬화한 뒤, 기존 기본 주소 해제와 새 기본 주소 지정을 UPDATE 한 번으로 처리한다
+     * (기본 주소가 둘 이상 생기지 않으며, 등록된 주소 개수와 관계없이 쿼리 수가 일정)
+     */
+    @Transactional
     public Address setDefaultAddress(Member member, Long addressId) {
         Address address = addressRepository.findById(addressId)
                 .orElseThrow(() -> new ServiceException(404, "주소를 찾을 수 없습니다."));
@@ -67,12 +75,10 @@ public class AddressService {
         if (!address.getMember().equals(member))
             throw new ServiceException(403, "다른 유저의 주소는 수정할 수 없습니다.");
 
-        // 모든 주소의 기본 설정을 해제
-        addressRepository.findAllByMember(member).forEach(addr -> addr.setDefault(false));
-
-        // 선택한 주소를 기본 주소로 설정
-        address.setDefault(true);
+        memberRepository.lockById(member.getId());
+        addressRepository.switchDefault(member.getId(), addressId);
 
-        return addressRepository.save(address);
+        return addressRepository.findById(addressId)
+                .orElseThrow(() -> new ServiceException(404, "주소를 찾을 수 없습니다."));
     }
 }
@@ -1,10 +1,12 @@
 package com.back.domain.member.member.controller;
 
+import com.back.domain.member.member.dto.MemberAvailabilityDto;
 import com.back.domain.member.member.dto.MemberDto;
 import com.back.domain.member.member.dto.MemberUpdateDto;
 import com.back.domain.member.member.dto.MemberWithAuthDto;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.service.MemberService;
+import com.back.domain.member.member.service.RefreshTokenService;
 import com.back.domain.order.dto.UserOrderDetailResponseBody;
 import com.back.domain.order.dto.UserOrderResponseBody;
 import com.back.global.exception.ServiceException;
@@ -64,6 +66,28 @@ public class MemberController {
         );
     }
 
+    @GetMapping("/availability")
+    @Operation(summary = "이메일 / 닉네임 사용 가능 여부 확인", description = "회원 가입 폼에서 입력 중에 호출할 수 있도록 가볍게 처리합니다.")
+    public RsData<MemberAvailabilityDto> availability(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name
+    ) {
+        boolean hasEmail = email != null && !email.isBlank();
+        boolean hasName = name != null && !name.isBlank();
+
+        if (!hasEmail && !hasName)
+            throw new ServiceException(400, "확인할 이메일 또는 닉네임을 입력해주세요.");
+
+        return new RsData<>(
+                200,
+                "사용 가능 여부를 확인했습니다.",
+                new MemberAvailabilityDto(
+                        hasEmail ? memberService.isEmailAvailable(email.trim()) : null,
+                        hasName ? memberService.isNameAvailable(name.trim()) : null
+                )
+        );
+    }
+
     record MemberLoginReqBody(
             @NotBlank
             @Email
@@ -76,12 +100,13 @@ public class MemberController {
     record MemberLoginResBody(
             MemberWithAuthDto member,
             String apiKey,
-            String accessToken
+            String accessToken,
+            String refreshToken
     ) { }
 
 
     @PostMapping("/login")
-    @Transactional(readOnly = true)
+    @Transactional
     @Operation(summary = "회원 로그인")
     public RsData<MemberLoginResBody> login(
             @Valid @RequestBody MemberLoginReqBody reqBody
@@ -95,9 +120,11 @@ public class MemberController {
         );
 
         String accessToken = memberService.genAccessToken(member);
+        String refreshToken = memberService.genRefreshToken(member);
 
         rq.setCookie("apiKey", member.getApiKey());
         rq.setCookie("accessToken", accessToken);
+        rq.setCookie("refreshToken", refreshToken);
 
         return new RsData<>(
                 200,
@@ -105,7 +132,50 @@ public class MemberController {
                 new MemberLoginResBody(
                         new MemberWithAuthDto(member),
                         member.getApiKey(),
-                        accessToken
+                        accessToken,
+                        refreshToken
+                )
+        );
+    }
+
+    record MemberRefreshReqBody(
+            String refreshToken
+    ) { }
+
+    record MemberRefreshResBody(
+            String accessToken,
+            String refreshToken
+    ) { }
+
+    // 트랜잭션을 걸지 않음 (재사용 감지 시 계열 폐기 내역이 예외와 함께 롤백되지 않도록)
+    @PostMapping("/refresh")
+    @Operation(summary = "액세스 토큰 갱신", description = "리프레시 토큰(요청 본문 또는 쿠키)을 새 토큰으로 교체하고 액세스 토큰을 재발급합니다.")
+    public RsData<MemberRefreshResBody> refresh(
+            @RequestBody(required = false) MemberRefreshReqBody reqBody
+    ) {
+        String refreshToken = reqBody != null && reqBody.refreshToken() != null && !reqBody.refreshToken().isBlank()
+                ? reqBody.refreshToken()
+                : rq.getCookieValue("refreshToken", "");
+
+        if (refreshToken.isBlank())
+            throw new ServiceException(401, "리프레시 토큰이 없습니다.");
+
+        RefreshTokenService.Rotation rotation = memberService.rotateRefreshToken(refreshToken);
+
+        Member member = memberService.findById(rotation.memberId())
+                .orElseThrow(() -> new ServiceException(401, "존재하지 않는 회원입니다."));
+
+        String accessToken = memberService.genAccessToken(member);
+
+        rq.setCookie("accessToken", accessToken);
+        rq.setCookie("refreshToken", rotation.refreshToken());
+
+        return new RsData<>(
+                200,
+                "토큰이 갱신되었습니다.",
+                new MemberRefreshResBody(
+                        accessToken,
+                        rotation.refreshToken()
                 )
         );
     }
@@ -113,8 +183,15 @@ public class MemberController {
     @DeleteMapping("/logout")
     @Operation(summary = "회원 로그아웃")
     public RsData<Void> logout(){
+        String accessToken = getAccessToken();
+        if (!accessToken.isBlank()) memberService.revokeAccessToken(accessToken);
+
+        String refreshToken = rq.getCookieValue("refreshToken", "");
+        if (!refreshToken.isBlank()) memberService.revokeRefreshToken(refreshToken);
+
         rq.deleteCookie("apiKey");
         rq.deleteCookie("accessToken");
+        rq.deleteCookie("refreshToken");
 
         return new RsData<>(
                 200,
@@ -123,6 +200,18 @@ public class MemberController {
         );
     }
 
+    // Authorization 헤더(Bearer {apiKey} {accessToken}) 또는 쿠키에서 액세스 토큰을 꺼냄
+    private String getAccessToken() {
+        String headerAuthorization = rq.getHeader("Authorization", "");
+
+        if (headerAuthorization.startsWith("Bearer ")) {
+            String[] parts = headerAuthorization.split(" ", 3);
+            return parts.length == 3 ? parts[2] : "";
+        }
+
+        return rq.getCookieValue("accessToken", "");
+    }
+
     @DeleteMapping("/withdraw")
     @Operation(summary = "회원 탈퇴")
     @Transactional
@@ -133,8 +222,12 @@ public class MemberController {
 
         memberService.withdraw(member);
 
+        String accessToken = getAccessToken();
+        if (!accessToken.isBlank()) memberService.revokeAccessToken(accessToken);
+
         rq.deleteCookie("apiKey");
         rq.deleteCookie("accessToken");
+        rq.deleteCookie("refreshToken");
 
         return new RsData<>(
                 200,
@@ -0,0 +1,13 @@
+package com.back.domain.member.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 요청에 포함된 항목만 응답 (확인하지 않은 항목은 JSON에서 제외)
+public record MemberAvailabilityDto(
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Boolean emailAvailable,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Boolean nameAvailable
+) {
+}
@@ -8,6 +8,7 @@ import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
@@ -39,6 +40,8 @@ public class Member {
     @Column(nullable = false)
     private boolean isAdmin;
 
+    private LocalDateTime withdrawnAt; // 탈퇴 시각 (null이 아니면 비활성, 백그라운드 정리 대상)
+
     @OneToMany(
         mappedBy = "member",
         fetch = FetchType.LAZY,
@@ -107,6 +110,19 @@ public class Member {
         this.apiKey = apiKey;
     }
 
+    public boolean isWithdrawn() {
+        return withdrawnAt != null;
+    }
+
+    // 탈퇴 처리: 즉시 비활성화하고 개인정보를 익명화 (주문, 주소는 백그라운드 작업에서 정리)
+    public void withdraw() {
+        this.withdrawnAt = LocalDateTime.now();
+        this.email = "withdrawn-%d@withdrawn.invalid".formatted(id);
+        this.name = "탈퇴회원-%d".formatted(id);
+        this.password = "N/A";
+        this.apiKey = UUID.randomUUID().toString();
+    }
+
     public Optional<Address> getLastAddress() {
         if (addresses.isEmpty()) {
             return Optional.empty();
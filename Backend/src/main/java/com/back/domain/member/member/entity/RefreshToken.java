@@ -0,0 +1,59 @@
+package com.back.domain.member.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰
+ * 원문은 저장하지 않고 SHA-256 해시만 저장한다
+ * 한 번 사용하면 같은 계열(familyId)의 새 토큰으로 교체되며,
+ * 이미 사용한 토큰이 다시 들어오면 탈취로 보고 계열 전체를 폐기한다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_member_id", columnList = "memberId")
+})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 43)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId; // 최초 로그인 시 발급된 토큰부터 이어지는 계열
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean used; // 이미 새 토큰으로 교체됨
+
+    @CreatedDate
+    private LocalDateTime createdDate;
+
+    public RefreshToken(String tokenHash, String familyId, Long memberId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(LocalDateTime.now());
+    }
+}
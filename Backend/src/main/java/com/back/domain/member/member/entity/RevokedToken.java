@@ -0,0 +1,42 @@
+package com.back.domain.member.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기(로그아웃)된 액세스 토큰
+ * 메모리의 Bloom 필터가 먼저 걸러내고, 필터에 걸린 경우에만 이 테이블로 최종 확인한다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_created_date", columnList = "createdDate"),
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt")
+})
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String jti; // 토큰 식별자
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt; // 토큰 만료 시각 (이후에는 보관할 필요 없음)
+
+    @CreatedDate
+    private LocalDateTime createdDate;
+
+    public RevokedToken(String jti, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+}
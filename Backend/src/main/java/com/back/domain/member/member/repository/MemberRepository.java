@@ -1,11 +1,42 @@
 package com.back.domain.member.member.repository;
 
 import com.back.domain.member.member.entity.Member;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
     Optional<Member> findByApiKey(String apiKey);
+    boolean existsByEmail(String email);
+    boolean existsByName(String name);
+
+    interface EmailAndName {
+        String getEmail();
+        String getName();
+    }
+
+    @Query("select m.email as email, m.name as name from Member m")
+    Stream<EmailAndName> findAllEmailsAndNames();
+
+    // 회원 단위로 작업을 직렬화할 때 사용 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m.id from Member m where m.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // 탈퇴 후 아직 정리되지 않은 회원 (정리가 끝나면 행이 삭제되므로 재시작 후에도 이어서 처리)
+    @Query("select m.id from Member m where m.withdrawnAt is not null order by m.withdrawnAt")
+    List<Long> findWithdrawnIds(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Member m where m.id = :id and m.withdrawnAt is not null")
+    int deleteWithdrawn(@Param("id") Long id);
 }
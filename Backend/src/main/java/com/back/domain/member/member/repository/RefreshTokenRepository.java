@@ -0,0 +1,31 @@
+package com.back.domain.member.member.repository;
+
+import com.back.domain.member.member.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 동시에 같은 토큰으로 갱신을 요청해도 한 요청만 성공하도록 조건부로 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken r set r.used = true where r.id = :id and r.used = false")
+    int markUsed(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
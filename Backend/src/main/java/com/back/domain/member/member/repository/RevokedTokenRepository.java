@@ -0,0 +1,26 @@
+package com.back.domain.member.member.repository;
+
+import com.back.domain.member.member.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    boolean existsByJti(String jti);
+
+    // 만료되지 않은 폐기 토큰 중 since 이후 기록된 것 (다른 서버에서 폐기한 토큰 동기화용)
+    List<RevokedToken> findByCreatedDateGreaterThanEqualAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    // 같은 키가 이미 있으면 무시 (동시에 같은 키를 넣어도 중복 키 예외 없이 한쪽만 기록)
+    @Modifying
+    @Query(value = "insert ignore into revoked_token (jti, expires_at, created_date) values (:jti, :expiresAt, :now)", nativeQuery = true)
+    int insertIgnore(@Param("jti") String jti, @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
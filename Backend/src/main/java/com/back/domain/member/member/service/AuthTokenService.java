@@ -1,11 +1,19 @@
 package com.back.domain.member.member.service;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.standard.cache.TtlCache;
 import com.back.standard.util.Ut;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class AuthTokenService {
@@ -15,6 +23,25 @@ public class AuthTokenService {
     @Value("${custom.accessToken.expirationSeconds}")
     private int accessTokenExpirationSeconds;
 
+    @Value("${custom.accessToken.verifiedCacheSize:10000}")
+    private int verifiedCacheSize;
+
+    // 서명 키와 파서는 한 번만 만들어 재사용
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    // 검증이 끝난 토큰의 payload (키: 토큰의 SHA-256 해시, 토큰 만료 시각까지만 유지)
+    private TtlCache<String, Map<String, Object>> verifiedPayloads;
+
+    @PostConstruct
+    void init() {
+        secretKey = Keys.hmacShaKeyFor(jwtSecretKey.getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        verifiedPayloads = new TtlCache<>(verifiedCacheSize);
+    }
+
     String genAccessToken(Member member) {
         long id = member.getId();
         String email = member.getEmail();
@@ -22,14 +49,25 @@ public class AuthTokenService {
         boolean isAdmin = member.isAdmin();
 
         return Ut.jwt.toString(
-                jwtSecretKey,
+                secretKey,
                 accessTokenExpirationSeconds,
-                Map.of("id", id, "email", email, "name", name, "isAdmin", isAdmin)
+                Map.of(
+                        "jti", UUID.randomUUID().toString(), // 폐기(로그아웃) 대상 식별용
+                        "id", id,
+                        "email", email,
+                        "name", name,
+                        "isAdmin", isAdmin
+                )
         );
     }
 
     Map<String, Object> payload(String accessToken) {
-        Map<String, Object> parsedPayload = Ut.jwt.payload(jwtSecretKey, accessToken);
+        String tokenHash = Ut.hash.sha256(accessToken);
+
+        Map<String, Object> cachedPayload = verifiedPayloads.get(tokenHash);
+        if (cachedPayload != null) return cachedPayload;
+
+        Map<String, Object> parsedPayload = Ut.jwt.payload(jwtParser, accessToken);
 
         if (parsedPayload == null) return null;
 
@@ -38,6 +76,20 @@ public class AuthTokenService {
         String name = (String) parsedPayload.get("name");
         boolean isAdmin = (boolean) parsedPayload.get("isAdmin");
 
-        return Map.of("id", id, "email", email, "name", name, "isAdmin", isAdmin);
+        if (!(parsedPayload instanceof Claims claims) || claims.getId() == null || claims.getExpiration() == null)
+            return null;
+
+        Map<String, Object> payload = Map.of(
+                "jti", claims.getId(),
+                "exp", claims.getExpiration().toInstant(),
+                "id", id,
+                "email", email,
+                "name", name,
+                "isAdmin", isAdmin
+        );
+
+        verifiedPayloads.put(tokenHash, payload, claims.getExpiration().getTime());
+
+        return payload;
     }
 }
@@ -0,0 +1,89 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.standard.bloom.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 이메일 / 닉네임 사용 가능 여부 확인
+ * 메모리의 Bloom 필터에 없으면 DB 조회 없이 바로 사용 가능으로 답하고 (입력 중 확인 요청의 대부분),
+ * 필터에 걸린 경우에만 유니크 인덱스로 존재 여부를 확인한다
+ * 필터는 가입, 정보 수정 시 바로 반영하고, 다른 서버의 변경과 삭제된 값은 주기적으로 새로 만들어 반영한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberAvailabilityService {
+    private final MemberRepository memberRepository;
+
+    @Value("${custom.memberAvailability.expectedMembers:1000000}")
+    private int expectedMembers;
+
+    private volatile Filters filters;
+    private volatile Filters rebuilding; // 재구성 중에 들어온 값을 새 필터에도 기록하기 위함
+
+    private record Filters(BloomFilter emails, BloomFilter names) {
+        void put(String email, String name) {
+            if (email != null) emails.put(email);
+            if (name != null) names.put(name);
+        }
+    }
+
+    public boolean isEmailAvailable(String email) {
+        Filters current = filters;
+        if (current != null && !current.emails().mightContain(email)) return true;
+
+        return !memberRepository.existsByEmail(email);
+    }
+
+    public boolean isNameAvailable(String name) {
+        Filters current = filters;
+        if (current != null && !current.names().mightContain(name)) return true;
+
+        return !memberRepository.existsByName(name);
+    }
+
+    // 롤백되더라도 필터에는 오탐으로만 남고 DB 확인에서 걸러진다
+    public void add(String email, String name) {
+        Filters current = filters;
+        if (current != null) current.put(email, name);
+
+        Filters next = rebuilding;
+        if (next != null) next.put(email, name);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${custom.memberAvailability.rebuildIntervalMillis:3600000}",
+            fixedDelayString = "${custom.memberAvailability.rebuildIntervalMillis:3600000}"
+    )
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Filters next = new Filters(
+                new BloomFilter(expectedMembers, 0.01),
+                new BloomFilter(expectedMembers, 0.01)
+        );
+        rebuilding = next;
+
+        try {
+            try (Stream<MemberRepository.EmailAndName> rows = memberRepository.findAllEmailsAndNames()) {
+                rows.forEach(row -> next.put(row.getEmail(), row.getName()));
+            }
+
+            filters = next;
+        } finally {
+            rebuilding = null;
+        }
+
+        log.debug("이메일/닉네임 필터 재구성 완료");
+    }
+}
@@ -0,0 +1,89 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.address.repository.AddressRepository;
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 탈퇴 회원 데이터 정리 (백그라운드)
+ * 주문(주문 아이템 포함), 주소를 일정 개수씩 나눠 집합 단위로 삭제하고, 마지막에 회원 행을 삭제한다
+ * 묶음마다 따로 커밋하며, 진행 상태는 "탈퇴 표시가 된 회원 행이 남아 있는지"로 판단하므로
+ * 서버가 중간에 재시작되어도 다음 실행에서 남은 부분부터 이어서 처리된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberPurgeService {
+    private final MemberRepository memberRepository;
+    private final OrderRepository orderRepository;
+    private final AddressRepository addressRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.memberPurge.chunkSize:500}")
+    private int chunkSize;
+
+    @Value("${custom.memberPurge.membersPerRun:20}")
+    private int membersPerRun;
+
+    @Scheduled(
+            initialDelayString = "${custom.memberPurge.intervalMillis:60000}",
+            fixedDelayString = "${custom.memberPurge.intervalMillis:60000}"
+    )
+    public void purgeWithdrawnMembers() {
+        List<Long> memberIds = transactionTemplate.execute(status ->
+                memberRepository.findWithdrawnIds(PageRequest.of(0, membersPerRun))
+        );
+
+        for (Long memberId : memberIds) {
+            try {
+                purge(memberId);
+            } catch (Exception e) {
+                // 다음 실행에서 다시 시도
+                log.warn("탈퇴 회원 데이터 정리 실패 memberId={}", memberId, e);
+            }
+        }
+    }
+
+    public void purge(Long memberId) {
+        int orders = 0;
+        int addresses = 0;
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> orderIds = orderRepository.findIdsByCustomerId(memberId, PageRequest.of(0, chunkSize));
+                if (orderIds.isEmpty()) return 0;
+
+                orderRepository.deleteItemsByOrderIdIn(orderIds);
+                return orderRepository.deleteByIdIn(orderIds);
+            });
+
+            if (deleted == null || deleted == 0) break;
+            orders += deleted;
+        }
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> addressIds = addressRepository.findIdsByMemberId(memberId, PageRequest.of(0, chunkSize));
+                if (addressIds.isEmpty()) return 0;
+
+                return addressRepository.deleteByIdIn(addressIds);
+            });
+
+            if (deleted == null || deleted == 0) break;
+            addresses += deleted;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> memberRepository.deleteWithdrawn(memberId));
+
+        log.info("탈퇴 회원 데이터 정리 완료 memberId={}, 주문 {}건, 주소 {}건", memberId, orders, addresses);
+    }
+}
@@ -8,12 +8,19 @@ import com.back.domain.order.dto.UserOrderResponseBody;
 import com.back.domain.order.entity.Order;
 import com.back.domain.order.service.OrderService;
 import com.back.global.exception.ServiceException;
+import com.back.global.jfr.PasswordCheckEvent;
+import com.back.standard.cache.TtlCache;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,6 +31,23 @@ public class MemberService {
     private final AuthTokenService authTokenService;
     private final OrderService orderService;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final MemberAvailabilityService memberAvailabilityService;
+
+    @Value("${custom.apiKey.cacheSize:10000}")
+    private int apiKeyCacheSize;
+
+    @Value("${custom.apiKey.cacheTtlSeconds:300}")
+    private int apiKeyCacheTtlSeconds;
+
+    // apiKey -> 인증 주체 캐시 (액세스 토큰이 없거나 만료된 요청이 매번 DB를 조회하지 않도록)
+    private TtlCache<String, Member> principalsByApiKey;
+
+    @PostConstruct
+    void init() {
+        principalsByApiKey = new TtlCache<>(apiKeyCacheSize);
+    }
 
     public long count() {
         return memberRepository.count();
@@ -52,6 +76,7 @@ public class MemberService {
                 .name(name)
                 .isAdmin(false) // 일반 사용자로 가입
                 .build();
+        memberAvailabilityService.add(email, name);
         return memberRepository.save(member);
     }
 
@@ -71,6 +96,7 @@ public class MemberService {
                 .name(name)
                 .isAdmin(true) // 일반 사용자로 가입
                 .build();
+        memberAvailabilityService.add(email, name);
         return memberRepository.save(member);
     }
 
@@ -82,32 +108,142 @@ public class MemberService {
         return authTokenService.payload(accessToken);
     }
 
+    public String genRefreshToken(Member member) {
+        return refreshTokenService.issue(member.getId());
+    }
+
+    public RefreshTokenService.Rotation rotateRefreshToken(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken);
+    }
+
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    // 로그아웃 시 액세스 토큰을 만료 전까지 사용할 수 없도록 폐기
+    public void revokeAccessToken(String accessToken) {
+        Map<String, Object> payload = authTokenService.payload(accessToken);
+        if (payload == null) return; // 이미 만료됐거나 유효하지 않은 토큰
+
+        tokenRevocationService.revoke((String) payload.get("jti"), (Instant) payload.get("exp"));
+    }
+
+    public boolean isAccessTokenRevoked(Map<String, Object> payload) {
+        return tokenRevocationService.isRevoked((String) payload.get("jti"));
+    }
+
+    // 탈퇴한 회원 (남아 있는 액세스 토큰, 다른 서버에 캐시된 API 키로도 인증하지 않음)
+    public boolean isMemberRevoked(long memberId) {
+        return tokenRevocationService.isMemberRevoked(memberId);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        return memberAvailabilityService.isEmailAvailable(email);
+    }
+
+    public boolean isNameAvailable(String name) {
+        return memberAvailabilityService.isNameAvailable(name);
+    }
+
     public Optional<Member> findByApiKey(String apiKey) {
         return memberRepository.findByApiKey(apiKey);
     }
 
+    /**
+     * 인증 필터용 apiKey 조회
+     * 영속 엔티티 대신 인증에 필요한 필드만 담은 사본을 돌려주며, 결과는 일정 시간 캐시한다
+     * 회원 정보 수정, apiKey 변경, 탈퇴 시 즉시 무효화된다
+     */
+    public Optional<Member> findPrincipalByApiKey(String apiKey) {
+        Member cached = principalsByApiKey.get(apiKey);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<Member> opMember = memberRepository.findByApiKey(apiKey)
+                .map(member -> Member.builder()
+                        .id(member.getId())
+                        .email(member.getEmail())
+                        .name(member.getName())
+                        .password("N/A") // 비밀번호는 필요없음
+                        .isAdmin(member.isAdmin())
+                        .apiKey(member.getApiKey())
+                        .build()
+                );
+
+        opMember.ifPresent(principal -> principalsByApiKey.put(
+                apiKey,
+                principal,
+                System.currentTimeMillis() + apiKeyCacheTtlSeconds * 1000L
+        ));
+
+        return opMember;
+    }
+
+    @Transactional
+    public void modifyApiKey(Member member, String apiKey) {
+        evictPrincipal(member.getApiKey());
+
+        member.modifyApiKey(apiKey);
+        memberRepository.save(member);
+    }
+
+    // 지금 바로 비우고, 트랜잭션이 끝난 뒤 한 번 더 비운다
+    // (커밋 전에 다른 요청이 옛 정보를 다시 캐시했거나, 롤백으로 값이 되돌아간 경우 대비)
+    private void evictPrincipal(String apiKey) {
+        principalsByApiKey.invalidate(apiKey);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                principalsByApiKey.invalidate(apiKey);
+            }
+        });
+    }
+
     public void checkPassword(Member member, String password) {
-        if (!passwordEncoder.matches(password, member.getPassword()))
+        PasswordCheckEvent event = new PasswordCheckEvent();
+        event.begin();
+
+        boolean matched = passwordEncoder.matches(password, member.getPassword());
+
+        event.memberId = member.getId() != null ? member.getId() : 0;
+        event.matched = matched;
+        event.finish();
+
+        if (!matched)
             throw new ServiceException(401, "비밀번호가 일치하지 않습니다.");
 
     }
 
+    /**
+     * 회원 탈퇴
+     * 요청 안에서는 회원을 비활성화하고 개인정보를 익명화하는 것까지만 처리하고,
+     * 주문, 주소 삭제는 {@link MemberPurgeService}가 백그라운드에서 나눠서 처리한다
+     */
+    @Transactional
     public void withdraw(Member member) {
         if (member.isAdmin())
             throw new ServiceException(403, "관리자는 탈퇴할 수 없습니다.");
 
+        evictPrincipal(member.getApiKey());
+        refreshTokenService.revokeAll(member.getId());
+        tokenRevocationService.revokeMember(member.getId());
 
-        memberRepository.delete(member);
+        member.withdraw();
+        memberRepository.save(member);
     }
 
     @Transactional
     public void modify(@Valid MemberUpdateDto reqBody, Member member) {
+        evictPrincipal(member.getApiKey());
 
         member.modifyInfo(
                 reqBody.email(),
                 passwordEncoder.encode(reqBody.password()),
                 reqBody.name()
         );
+        memberAvailabilityService.add(member.getEmail(), member.getName());
         memberRepository.save(member);
     }
 
@@ -0,0 +1,106 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.member.entity.RefreshToken;
+import com.back.domain.member.member.repository.RefreshTokenRepository;
+import com.back.global.exception.ServiceException;
+import com.back.standard.util.Ut;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/교체/폐기
+ * 인증 과정에서 DB를 조회하는 유일한 경로 (일반 API 요청은 액세스 토큰만으로 인증)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${custom.refreshToken.expirationSeconds}")
+    private int refreshTokenExpirationSeconds;
+
+    public record Rotation(
+            Long memberId,
+            String refreshToken
+    ) { }
+
+    // 로그인 시 새 계열의 리프레시 토큰 발급
+    @Transactional
+    public String issue(Long memberId) {
+        return issue(memberId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 같은 계열의 새 토큰으로 교체
+     * 이미 사용한 토큰이 다시 들어오면 계열 전체를 폐기한다 (폐기 내역은 예외가 나도 커밋)
+     */
+    @Transactional(noRollbackFor = ServiceException.class)
+    public Rotation rotate(String rawRefreshToken) {
+        RefreshToken refreshToken = refreshTokenRepository
+                .findByTokenHash(Ut.hash.sha256(rawRefreshToken))
+                .orElseThrow(() -> new ServiceException(401, "유효하지 않은 리프레시 토큰입니다."));
+
+        if (refreshToken.isExpired())
+            throw new ServiceException(401, "리프레시 토큰이 만료되었습니다. 다시 로그인해주세요.");
+
+        if (refreshToken.isUsed() || refreshTokenRepository.markUsed(refreshToken.getId()) == 0) {
+            refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지, 계열 폐기 memberId={}, familyId={}", refreshToken.getMemberId(), refreshToken.getFamilyId());
+
+            throw new ServiceException(401, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        return new Rotation(
+                refreshToken.getMemberId(),
+                issue(refreshToken.getMemberId(), refreshToken.getFamilyId())
+        );
+    }
+
+    // 로그아웃 시 해당 토큰의 계열 전체 폐기
+    @Transactional
+    public void revoke(String rawRefreshToken) {
+        refreshTokenRepository
+                .findByTokenHash(Ut.hash.sha256(rawRefreshToken))
+                .ifPresent(refreshToken -> refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId()));
+    }
+
+    @Transactional
+    public void revokeAll(Long memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.refreshToken.cleanupIntervalMillis:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+
+        if (deleted > 0) log.info("만료된 리프레시 토큰 {}건 삭제", deleted);
+    }
+
+    private String issue(Long memberId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawRefreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                Ut.hash.sha256(rawRefreshToken),
+                familyId,
+                memberId,
+                LocalDateTime.now().plusSeconds(refreshTokenExpirationSeconds)
+        ));
+
+        return rawRefreshToken;
+    }
+}
@@ -0,0 +1,153 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.member.entity.RevokedToken;
+import com.back.domain.member.member.repository.RevokedTokenRepository;
+import com.back.standard.bloom.TimeBucketedBloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 액세스 토큰 폐기 목록
+ * DB(RevokedToken)가 원본이고, 메모리에는 만료 시각 기준 Bloom 필터만 둔다
+ * 필터에 없으면 바로 통과(대부분의 요청), 필터에 걸린 경우에만 DB로 확인한다
+ * 다른 서버에서 폐기한 토큰은 주기적으로 DB를 조회해 필터에 반영한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+    // 회원 단위 폐기 키 접두사 (jti는 UUID 형식이라 겹치지 않음)
+    private static final String MEMBER_KEY_PREFIX = "member-";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${custom.accessToken.expirationSeconds}")
+    private int accessTokenExpirationSeconds;
+
+    @Value("${custom.tokenRevocation.bucketSeconds:60}")
+    private int bucketSeconds;
+
+    @Value("${custom.tokenRevocation.expectedPerBucket:10000}")
+    private int expectedPerBucket;
+
+    // 커밋 순서가 뒤바뀐 기록을 놓치지 않도록 이전 동기화 시각보다 조금 앞에서부터 다시 읽는다
+    @Value("${custom.tokenRevocation.syncOverlapSeconds:30}")
+    private int syncOverlapSeconds;
+
+    private TimeBucketedBloomFilter revokedJtis;
+    private volatile LocalDateTime lastSyncedAt;
+    private TransactionTemplate requiresNewTransaction;
+
+    @PostConstruct
+    void init() {
+        revokedJtis = new TimeBucketedBloomFilter(
+                accessTokenExpirationSeconds * 1000L,
+                bucketSeconds * 1000L,
+                expectedPerBucket,
+                0.01
+        );
+
+        requiresNewTransaction = new TransactionTemplate(transactionManager);
+        requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) return; // 이미 만료된 토큰
+
+        // 같은 토큰으로 동시에 로그아웃하면(중복 클릭, 재시도) 나중 요청은 jti 중복 키로 실패하는데, 이미 폐기된 것으로 본다
+        // 실패한 INSERT가 호출한 쪽 트랜잭션까지 롤백시키지 않도록 별도 트랜잭션에서 바로 반영한다
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> revokedTokenRepository.saveAndFlush(
+                    new RevokedToken(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+            ));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 폐기된 토큰입니다. jti={}", jti);
+        }
+
+        // 롤백되더라도 필터에는 오탐으로만 남고 DB 확인에서 걸러진다
+        revokedJtis.put(jti, expiresAt.toEpochMilli(), System.currentTimeMillis());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (!revokedJtis.mightContain(jti, System.currentTimeMillis())) return false;
+
+        return revokedTokenRepository.existsByJti(jti);
+    }
+
+    /**
+     * 회원에게 이미 발급된 액세스 토큰을 모두 폐기 (탈퇴)
+     * 토큰마다 기록하는 대신 회원 단위 키 하나를 액세스 토큰 최대 수명 동안 남긴다
+     * 호출한 쪽 트랜잭션과 함께 커밋, 롤백된다
+     */
+    @Transactional
+    public void revokeMember(long memberId) {
+        String key = MEMBER_KEY_PREFIX + memberId;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(accessTokenExpirationSeconds);
+
+        revokedTokenRepository.insertIgnore(key, expiresAt, now);
+        revokedJtis.put(key, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), System.currentTimeMillis());
+    }
+
+    public boolean isMemberRevoked(long memberId) {
+        return isRevoked(MEMBER_KEY_PREFIX + memberId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${custom.tokenRevocation.pollIntervalMillis:5000}",
+            fixedDelayString = "${custom.tokenRevocation.pollIntervalMillis:5000}"
+    )
+    @Transactional(readOnly = true)
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt == null
+                ? LocalDateTime.of(1970, 1, 1, 0, 0)
+                : lastSyncedAt.minusSeconds(syncOverlapSeconds);
+
+        List<RevokedToken> revokedTokens = revokedTokenRepository
+                .findByCreatedDateGreaterThanEqualAndExpiresAtAfter(since, now);
+
+        long nowMillis = System.currentTimeMillis();
+
+        for (RevokedToken revokedToken : revokedTokens) {
+            long expiresAtMillis = revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+            try {
+                revokedJtis.put(revokedToken.getJti(), expiresAtMillis, nowMillis);
+            } catch (IllegalArgumentException e) {
+                // 토큰 만료 시간 설정이 서버마다 다른 경우
+                log.warn("폐기 토큰을 필터에 반영하지 못했습니다. jti={}, expiresAt={}", revokedToken.getJti(), revokedToken.getExpiresAt());
+            }
+        }
+
+        revokedJtis.purgeExpired(nowMillis);
+        lastSyncedAt = now;
+    }
+
+    // 만료된 폐기 기록은 더 이상 확인할 필요가 없으므로 정리
+    @Scheduled(fixedDelayString = "${custom.tokenRevocation.cleanupIntervalMillis:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+
+        if (deleted > 0) log.info("만료된 폐기 토큰 {}건 삭제", deleted);
+    }
+}
@@ -4,6 +4,7 @@ import com.back.domain.member.member.entity.Member;
 import com.back.domain.order.dto.OrderDto;
 import com.back.domain.order.dto.OrderItemCreateReqBody;
 import com.back.domain.order.dto.OrderItemParam;
+import com.back.domain.order.dto.OrderQuoteDto;
 import com.back.domain.order.entity.Order;
 import com.back.domain.order.service.OrderService;
 import com.back.global.rq.Rq;
@@ -29,7 +30,7 @@ public class OrderController {
 
     public record OrderCreateReqBody(
             @NotBlank String customerAddress,
-            @NotEmpty List<OrderItemCreateReqBody> orderItems
+            @NotEmpty List<@Valid OrderItemCreateReqBody> orderItems
     ) {
     }
 
@@ -54,6 +55,28 @@ public class OrderController {
         );
     }
 
+    public record OrderQuoteReqBody(
+            @NotEmpty List<@Valid OrderItemCreateReqBody> orderItems
+    ) {
+    }
+
+    @PostMapping("/quote")
+    @Operation(summary = "주문 견적 조회", description = "주문 생성 전 현재 가격 기준 금액과 주문 불가능한 상품을 확인합니다.")
+    public RsData<OrderQuoteDto> quoteOrder(@Valid @RequestBody OrderQuoteReqBody reqBody) {
+        List<OrderItemParam> orderItemParams = reqBody.orderItems()
+                .stream()
+                .map(OrderItemCreateReqBody::toParam)
+                .toList();
+        OrderQuoteDto quote = orderService.quote(orderItemParams);
+        return new RsData<>(
+                200,
+                quote.isOrderable()
+                        ? "주문 견적이 계산되었습니다."
+                        : "주문 불가능한 상품이 포함되어 있습니다.",
+                quote
+        );
+    }
+
     @DeleteMapping("/{orderId}")
     @Operation(summary = "주문 취소")
     public RsData<OrderDto> cancelOrder(@PathVariable Long orderId) {
@@ -25,7 +25,13 @@ public record OrderDto(
         @NonNull String customerAddress,
         @Schema(description = "주문 상세 목록")
         @JsonInclude(JsonInclude.Include.NON_NULL) // null인 경우 JSON 응답에서 제외
-        @NonNull List<OrderItemDto> orderItems
+        @NonNull List<OrderItemDto> orderItems,
+        @Schema(description = "배달 담당 매장")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String deliveryStore,
+        @Schema(description = "예상 배달 소요 시간 (분)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Integer estimatedDeliveryMinutes
 ) {
     public OrderDto(Order order) {
         this(
@@ -34,7 +40,9 @@ public record OrderDto(
                 order.getCreatedDate(),
                 order.getStatus(),
                 order.getCustomerAddress(),
-                null
+                null,
+                order.getDeliveryStore(),
+                order.getEstimatedDeliveryMinutes()
         );
     }
 
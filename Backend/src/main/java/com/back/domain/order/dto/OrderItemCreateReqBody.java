@@ -1,11 +1,15 @@
 package com.back.domain.order.dto;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 public record OrderItemCreateReqBody(
         @NotNull Long productId,
-        @NotNull int count
+        @Positive @Max(MAX_COUNT) int count
 ) {
+    public static final int MAX_COUNT = 999; // 상품 하나당 최대 주문 수량
+
     public OrderItemParam toParam() {
         return new OrderItemParam(productId, count);
     }
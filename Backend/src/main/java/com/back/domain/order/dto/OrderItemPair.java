@@ -0,0 +1,10 @@
+package com.back.domain.order.dto;
+
+/**
+ * 함께 구매 집계 재구성용 (주문 ID, 상품 ID) 쌍
+ */
+public record OrderItemPair(
+        Long orderId,
+        Long productId
+) {
+}
@@ -0,0 +1,13 @@
+package com.back.domain.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 집계 재구성용 주문 아이템 요약
+ */
+public record OrderItemSales(
+        Long productId,
+        int count,
+        LocalDateTime orderedAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.back.domain.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+@Schema(description = "주문 견적 DTO")
+public record OrderQuoteDto(
+        @Schema(description = "주문 견적 상세 목록")
+        @NonNull List<OrderQuoteItemDto> orderItems,
+        @Schema(description = "주문 가능한 상품 기준 총 금액")
+        long totalPrice,
+        @Schema(description = "존재하지 않거나 주문 불가능한 상품 ID 목록")
+        @NonNull List<Long> unorderableProductIds
+) {
+    public boolean isOrderable() {
+        return unorderableProductIds.isEmpty();
+    }
+}
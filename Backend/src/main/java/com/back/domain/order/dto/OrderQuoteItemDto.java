@@ -0,0 +1,19 @@
+package com.back.domain.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.lang.NonNull;
+
+@Schema(description = "주문 견적 상세 DTO")
+public record OrderQuoteItemDto(
+        @Schema(description = "상품 ID")
+        @NonNull Long productId,
+        @Schema(description = "수량")
+        int count,
+        @Schema(description = "낱개 가격 (주문 불가능한 상품은 0)")
+        int price,
+        @Schema(description = "수량 * 낱개 가격")
+        long linePrice,
+        @Schema(description = "주문 가능 여부")
+        boolean orderable
+) {
+}
@@ -41,6 +41,11 @@ public class Order {
 
     private String customerAddress;
 
+    @Column(length = 30)
+    private String deliveryStore; // 배달 담당 매장
+
+    private Integer estimatedDeliveryMinutes; // 주문 시점 예상 배달 소요 시간 (분)
+
     @Enumerated(EnumType.STRING) // Enum을 String으로 저장
     @Column(name = "state")
     private OrderStatus status;
@@ -61,6 +66,11 @@ public class Order {
         orderItem.setOrder(this);
     }
 
+    public void assignDelivery(String deliveryStore, int estimatedDeliveryMinutes) {
+        this.deliveryStore = deliveryStore;
+        this.estimatedDeliveryMinutes = estimatedDeliveryMinutes;
+    }
+
     public void changeCustomerAddress(String customerAddress) {
         this.customerAddress = customerAddress;
     }
@@ -0,0 +1,27 @@
+package com.back.domain.order.event;
+
+import com.back.domain.order.dto.OrderItemParam;
+import com.back.domain.order.entity.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문이 취소되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 판매 집계 등 파생 데이터 갱신에 사용
+ */
+public record OrderCanceledEvent(
+        Long orderId,
+        LocalDateTime orderedAt,
+        List<OrderItemParam> orderItems
+) {
+    public OrderCanceledEvent(Order order) {
+        this(
+                order.getId(),
+                order.getCreatedDate(),
+                order.getOrderItems().stream()
+                        .map(orderItem -> new OrderItemParam(orderItem.getProduct().getId(), orderItem.getCount()))
+                        .toList()
+        );
+    }
+}
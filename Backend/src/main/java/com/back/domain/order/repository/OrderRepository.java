@@ -1,10 +1,56 @@
 package com.back.domain.order.repository;
 
+import com.back.domain.order.dto.OrderItemPair;
+import com.back.domain.order.dto.OrderItemSales;
 import com.back.domain.order.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findFirstByOrderByIdDesc();
+
+    // 관리자 주문 목록: 주문자, 주문 아이템, 상품을 한 번에 조회 (주문마다 추가 쿼리가 나가지 않도록)
+    // 탈퇴 후 정리 대기 중인 회원의 주문은 제외
+    @Query("""
+            select distinct o from Order o
+            join fetch o.customer c
+            left join fetch o.orderItems oi
+            left join fetch oi.product
+            where c.withdrawnAt is null
+            order by o.id
+            """)
+    List<Order> findAllWithCustomerAndItems();
+
+    // 취소되지 않은 주문의 아이템만 조회
+    @Query("""
+            select new com.back.domain.order.dto.OrderItemSales(oi.product.id, oi.count, o.createdDate)
+            from OrderItem oi join oi.order o
+            where o.createdDate >= :since and o.status <> com.back.domain.order.entity.OrderStatus.CANCELED
+            """)
+    List<OrderItemSales> findItemSalesSince(@Param("since") LocalDateTime since);
+
+    @Query("""
+            select new com.back.domain.order.dto.OrderItemPair(o.id, oi.product.id)
+            from OrderItem oi join oi.order o
+            where o.status <> com.back.domain.order.entity.OrderStatus.CANCELED
+            """)
+    List<OrderItemPair> findAllItemPairs();
+
+    @Query("select o.id from Order o where o.customer.id = :customerId")
+    List<Long> findIdsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from OrderItem oi where oi.order.id in :orderIds")
+    int deleteItemsByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
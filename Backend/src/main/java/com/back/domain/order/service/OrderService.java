@@ -1,21 +1,35 @@
 package com.back.domain.order.service;
 
+import com.back.domain.delivery.dto.DeliveryEstimate;
+import com.back.domain.delivery.service.DeliveryZoneService;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.order.dto.OrderItemParam;
+import com.back.domain.order.dto.OrderQuoteDto;
+import com.back.domain.order.dto.OrderQuoteItemDto;
 import com.back.domain.order.entity.Order;
 import com.back.domain.order.entity.OrderItem;
 import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.order.event.OrderCanceledEvent;
+import com.back.domain.order.event.OrderPlacedEvent;
 import com.back.domain.order.repository.OrderRepository;
 import com.back.domain.product.entity.Product;
 import com.back.domain.product.repository.ProductRepository;
+import com.back.domain.product.service.ProductCatalog;
 import com.back.global.exception.ServiceException;
+import com.back.global.jfr.OrderCreateEvent;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,24 +37,104 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
-
-    @Transactional
+    private final ProductCatalog productCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeliveryZoneService deliveryZoneService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 커밋(flush, FK 검사)까지 이벤트 시간에 포함되도록 트랜잭션을 메서드 안에서 연다
+     */
     public Order createOrder(Member actor, String customerAddress, List<OrderItemParam> OrderItemParam) {
+        OrderCreateEvent event = new OrderCreateEvent();
+        event.begin();
+
+        try {
+            Order order = transactionTemplate.execute(status -> placeOrder(actor, customerAddress, OrderItemParam));
+            event.orderId = order.getId();
+            event.success = true;
+
+            return order;
+        } finally {
+            event.memberId = actor.getId();
+            event.itemCount = OrderItemParam.size();
+            event.finish();
+        }
+    }
 
+    private Order placeOrder(Member actor, String customerAddress, List<OrderItemParam> OrderItemParam) {
+        // 배달 가능 지역 확인 (메모리 내 지명 사전 + 공간 인덱스)
+        DeliveryEstimate deliveryEstimate = deliveryZoneService.estimate(customerAddress);
+
+        // 상품 검증, 가격 조회는 카탈로그 스냅샷으로 처리 (상품 테이블 조회 없음)
+        ProductCatalog.Snapshot catalog = productCatalog.snapshot();
         Order order = new Order(actor, customerAddress);
+        order.assignDelivery(deliveryEstimate.storeName(), deliveryEstimate.estimatedMinutes());
 
         for (OrderItemParam param : OrderItemParam) {
-            Product product = productRepository.findById(param.productId())
-                    .orElseThrow(() -> new ServiceException(404, "존재하지 않는 상품입니다."));
+            int index = catalog.indexOf(param.productId());
+
+            if (index < 0)
+                throw new ServiceException(404, "존재하지 않는 상품입니다.");
 
-            if (!product.isOrderable())
+            if (!catalog.orderableAt(index))
                 throw new ServiceException(400, "주문 불가능한 상품입니다.");
 
-            OrderItem orderItem = new OrderItem(order, product, param.count(), product.getPrice());
+            Product product = productRepository.getReferenceById(param.productId());
+            OrderItem orderItem = new OrderItem(order, product, param.count(), catalog.priceAt(index));
             order.addOrderItem(orderItem);
         }
 
-        return orderRepository.save(order);
+        Order savedOrder;
+        try {
+            savedOrder = orderRepository.saveAndFlush(order);
+        } catch (DataIntegrityViolationException e) {
+            // 스냅샷이 교체되기 직전에 삭제된 상품이라면 FK 제약 조건에서 걸러진다
+            // 그 외의 제약 조건 위반(주소, 회원 등)은 버그이므로 그대로 던진다
+            if (hasDeletedProduct(OrderItemParam))
+                throw new ServiceException(404, "존재하지 않는 상품입니다.");
+
+            throw e;
+        }
+
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder));
+        return savedOrder;
+    }
+
+    private boolean hasDeletedProduct(List<OrderItemParam> orderItemParams) {
+        Set<Long> productIds = orderItemParams.stream()
+                .map(OrderItemParam::productId)
+                .collect(Collectors.toSet());
+
+        return productRepository.findExistingIds(productIds).size() < productIds.size();
+    }
+
+    // 주문 전 견적 계산, 카탈로그 스냅샷만 사용 (트랜잭션, 주문 테이블 접근 없음)
+    public OrderQuoteDto quote(List<OrderItemParam> orderItemParams) {
+        ProductCatalog.Snapshot catalog = productCatalog.snapshot();
+
+        List<OrderQuoteItemDto> items = new ArrayList<>(orderItemParams.size());
+        List<Long> unorderableProductIds = new ArrayList<>();
+        long totalPrice = 0; // 수량이 많으면 int 범위를 넘을 수 있음
+
+        for (OrderItemParam param : orderItemParams) {
+            int index = catalog.indexOf(param.productId());
+            boolean orderable = index >= 0 && catalog.orderableAt(index);
+
+            if (!orderable) {
+                unorderableProductIds.add(param.productId());
+                items.add(new OrderQuoteItemDto(param.productId(), param.count(), 0, 0, false));
+                continue;
+            }
+
+            int price = catalog.priceAt(index);
+            long linePrice = Math.multiplyExact((long) price, param.count());
+            totalPrice = Math.addExact(totalPrice, linePrice);
+
+            items.add(new OrderQuoteItemDto(param.productId(), param.count(), price, linePrice, true));
+        }
+
+        return new OrderQuoteDto(items, totalPrice, unorderableProductIds);
     }
 
     @Transactional(readOnly = true)
@@ -50,7 +144,7 @@ public class OrderService {
     }
 
     public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+        return orderRepository.findAllWithCustomerAndItems();
     }
 
     @Transactional
@@ -71,6 +165,7 @@ public class OrderService {
 
 
         order.changeStatus(OrderStatus.CANCELED);
+        eventPublisher.publishEvent(new OrderCanceledEvent(order));
         return order;
     }
 
@@ -85,7 +180,11 @@ public class OrderService {
         if (order.isCanceled())
             throw new ServiceException(409, "이미 취소된 주문입니다.");
 
+        // 주문할 때와 같이 배달 가능 지역을 확인하고, 담당 매장과 예상 시간도 새 주소 기준으로 바꾼다
+        DeliveryEstimate deliveryEstimate = deliveryZoneService.estimate(newAddress);
+
         order.changeCustomerAddress(newAddress);
+        order.assignDelivery(deliveryEstimate.storeName(), deliveryEstimate.estimatedMinutes());
         orderRepository.save(order);
         return order;
     }
@@ -94,6 +193,7 @@ public class OrderService {
         return orderRepository.findFirstByOrderByIdDesc();
     }
 
+    @Transactional
     public Order updateOrderStatus(Long orderId, @NotNull String status) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ServiceException(404, "해당 주문이 존재하지 않습니다."));
@@ -105,7 +205,13 @@ public class OrderService {
             throw new ServiceException(400, "유효하지 않은 주문 상태입니다.");
         }
 
+        boolean canceledNow = orderStatus == OrderStatus.CANCELED && !order.isCanceled();
+
         order.changeStatus(orderStatus);
+
+        if (canceledNow)
+            eventPublisher.publishEvent(new OrderCanceledEvent(order));
+
         return orderRepository.save(order);
     }
 }
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/adm")
@@ -154,4 +155,40 @@ public class AdmProductController {
         );
     }
 
+    record BulkOrderableReqBody(List<Long> ids,
+                                String category,
+                                boolean orderable) {
+    }
+
+    record BulkOrderableResBody(int updatedCount,
+                                boolean orderable) {
+    }
+
+    @Operation(
+            summary = "주문 가능 불가능 일괄 설정",
+            description = "ids(상품 ID 목록) 또는 category 중 하나로 대상을 지정해 주문 가능 여부를 한 번에 변경합니다"
+    )
+    @Transactional
+    @PutMapping("/products/orderable")
+    public RsData<BulkOrderableResBody> bulkOrderable(@RequestBody BulkOrderableReqBody reqBody) {
+
+        int updatedCount = productService.bulkUpdateOrderable(
+                reqBody.ids(),
+                reqBody.category(),
+                reqBody.orderable()
+        );
+
+        String message = String.format(
+                "%d개 상품이 주문 %s하게 변경되었습니다.",
+                updatedCount,
+                reqBody.orderable() ? "가능" : "불가능"
+        );
+
+        return new RsData<>(
+                200,
+                message,
+                new BulkOrderableResBody(updatedCount, reqBody.orderable())
+        );
+    }
+
 }
@@ -1,21 +1,29 @@
 package com.back.domain.product.controller;
 
+import com.back.domain.product.dto.BestSellerDto;
 import com.back.domain.product.dto.PageDto;
 import com.back.domain.product.dto.ProductDto;
+import com.back.domain.product.dto.RecommendationDto;
 import com.back.domain.product.entity.Product;
+import com.back.domain.product.service.BestSellerService;
 import com.back.domain.product.service.ProductService;
+import com.back.domain.product.service.RecommendationService;
 import com.back.global.exception.ServiceException;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Validated
 @Tag(name = "ProductController", description = "로그인 없이 상품목록, 상품상세 볼수있는 api")
 @RequiredArgsConstructor
@@ -23,6 +31,8 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api")
 public class ProductController {
     private final ProductService productService;
+    private final BestSellerService bestSellerService;
+    private final RecommendationService recommendationService;
 
     @Operation(
             summary = "상품 목록 조회",
@@ -47,6 +57,41 @@ public class ProductController {
         return RsData.successOf(pageDto);
     }
 
+    @Operation(
+            summary = "상품 다건 조회",
+            description = "장바구니 갱신용, 요청한 ids 순서대로 반환 (존재하지 않는 상품은 제외)"
+    )
+    @GetMapping(value = "/products", params = "ids")
+    @Transactional(readOnly = true)
+    public RsData<List<ProductDto>> getItemsByIds(
+            @RequestParam @NotEmpty @Size(max = 50) List<Long> ids
+    ) {
+
+        List<ProductDto> items = productService.getItems(ids)
+                .stream()
+                .map(ProductDto::new)
+                .toList();
+
+        return new RsData<>(
+                200,
+                "%d개 상품을 조회하였습니다.".formatted(items.size()),
+                items
+        );
+    }
+
+    @Operation(
+            summary = "인기 상품 조회",
+            description = "period(DAY: 최근 24시간, WEEK: 최근 7일) 동안 판매 수량 기준 상위 상품"
+    )
+    @GetMapping("/products/best-sellers")
+    public RsData<List<BestSellerDto>> getBestSellers(
+            @RequestParam(defaultValue = "DAY") BestSellerService.Period period,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(20) int limit
+    ) {
+
+        return RsData.successOf(bestSellerService.getBestSellers(period, limit));
+    }
+
     @Operation(
             summary = "상품 단건 조회",
             description = "상품 ID기반 상품의 상세 정보 조회"
@@ -66,5 +111,16 @@ public class ProductController {
         );
     }
 
+    @Operation(
+            summary = "함께 구매한 상품 추천",
+            description = "실제 주문 이력에서 해당 상품과 함께 많이 구매된 주문 가능 상품"
+    )
+    @GetMapping("/products/{id}/recommendations")
+    public RsData<List<RecommendationDto>> getRecommendations(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "4") @Min(1) @Max(10) int limit
+    ) {
 
+        return RsData.successOf(recommendationService.getRecommendations(id, limit));
+    }
 }
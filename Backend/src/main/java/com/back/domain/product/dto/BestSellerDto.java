@@ -0,0 +1,19 @@
+package com.back.domain.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.lang.NonNull;
+
+@Schema(description = "인기 상품 DTO")
+public record BestSellerDto(
+        @Schema(description = "순위 (1부터 시작)")
+        int rank,
+        @Schema(description = "상품 ID")
+        @NonNull Long productId,
+        @Schema(description = "상품명")
+        @NonNull String productName,
+        @Schema(description = "상품 이미지 URL")
+        String imageUrl,
+        @Schema(description = "기간 내 판매 수량")
+        long salesCount
+) {
+}
@@ -0,0 +1,11 @@
+package com.back.domain.product.dto;
+
+/**
+ * 카탈로그 스냅샷 구성용 상품 요약 (주문 검증에 필요한 값만 조회)
+ */
+public record ProductCatalogEntry(
+        long id,
+        int price,
+        boolean orderable
+) {
+}
@@ -0,0 +1,13 @@
+package com.back.domain.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.lang.NonNull;
+
+@Schema(description = "함께 구매한 상품 추천 DTO")
+public record RecommendationDto(
+        @Schema(description = "상품 ID")
+        @NonNull Long productId,
+        @Schema(description = "함께 구매된 주문 수")
+        long coPurchaseCount
+) {
+}
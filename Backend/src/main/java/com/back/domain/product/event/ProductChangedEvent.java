@@ -0,0 +1,8 @@
+package com.back.domain.product.event;
+
+/**
+ * 상품 정보(가격, 주문 가능 여부 등)가 변경되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 상품 캐시(카탈로그 스냅샷)를 갱신하는 데 사용
+ */
+public record ProductChangedEvent() {
+}
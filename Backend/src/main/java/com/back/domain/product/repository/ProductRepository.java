@@ -1,10 +1,41 @@
 package com.back.domain.product.repository;
 
+import com.back.domain.product.dto.ProductCatalogEntry;
 import com.back.domain.product.entity.Product;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findTopByOrderByIdDesc();
+
+    @Query("select new com.back.domain.product.dto.ProductCatalogEntry(p.id, p.price, p.orderable) from Product p order by p.id")
+    List<ProductCatalogEntry> findAllCatalogEntries();
+
+    // 주문 저장 실패 시 삭제된 상품이 있는지 확인하는 용도
+    // 실패한 INSERT가 남아 있는 영속성 컨텍스트를 다시 flush하지 않도록 COMMIT 모드로 조회
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    @Query("select p.id from Product p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 벌크 UPDATE는 감사(Auditing) 리스너를 거치지 않으므로 수정일을 직접 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("update Product p set p.orderable = :orderable, p.modifiedDate = :modifiedDate where p.id in :ids")
+    int updateOrderableByIdIn(@Param("ids") List<Long> ids,
+                              @Param("orderable") boolean orderable,
+                              @Param("modifiedDate") LocalDateTime modifiedDate);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Product p set p.orderable = :orderable, p.modifiedDate = :modifiedDate where p.category = :category")
+    int updateOrderableByCategory(@Param("category") String category,
+                                  @Param("orderable") boolean orderable,
+                                  @Param("modifiedDate") LocalDateTime modifiedDate);
 }
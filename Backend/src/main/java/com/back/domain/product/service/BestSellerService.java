@@ -0,0 +1,248 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.OrderItemParam;
+import com.back.domain.order.dto.OrderItemSales;
+import com.back.domain.order.event.OrderCanceledEvent;
+import com.back.domain.order.event.OrderPlacedEvent;
+import com.back.domain.order.repository.OrderRepository;
+import com.back.domain.product.dto.BestSellerDto;
+import com.back.domain.product.entity.Product;
+import com.back.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 상품(판매량 순위) 집계
+ * 주문 커밋/취소 시점에 상품별 시간 단위 카운터를 증감하고, 조회 시 기간 내 합계로 순위를 계산한다
+ * 서버 시작 시 DB의 최근 주문으로 다시 구성 (재구성 중에 들어온 증감은 모아 두었다가 교체 후 새 카운터에 다시 반영)
+ */
+@Service
+@RequiredArgsConstructor
+public class BestSellerService {
+    // 1시간 단위 칸 168개 = 최근 1주일
+    private static final int BUCKET_COUNT = 24 * 7;
+    private static final long MILLIS_PER_HOUR = 60 * 60 * 1000L;
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+
+    private volatile Map<Long, SalesCounter> counters = new ConcurrentHashMap<>();
+    private volatile Queue<Delta> rebuilding; // 재구성 중에 들어온 증감 (교체 후 새 카운터에 다시 반영)
+    // 증감은 읽기 락으로 동시에, 카운터 교체와 정리는 쓰기 락으로 진행 중인 증감이 없을 때 처리
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private record Delta(LocalDateTime orderedAt, List<OrderItemParam> orderItems, int sign) {
+    }
+
+    public enum Period {
+        DAY(24),
+        WEEK(24 * 7);
+
+        private final int hours;
+
+        Period(int hours) {
+            this.hours = hours;
+        }
+    }
+
+    /**
+     * DB의 최근 주문으로 카운터를 새로 만든 뒤 교체
+     * 조회하는 동안 커밋된 주문은 결과에 빠질 수 있으므로, 그동안 들어온 증감을 모아 두었다가 교체할 때 다시 반영한다
+     * (조회 직전에 커밋된 주문이 양쪽에 모두 잡혀 두 번 세어질 수 있으나 순위용 근사치로 허용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Queue<Delta> pending = new ConcurrentLinkedQueue<>();
+        rebuilding = pending;
+
+        try {
+            long currentHour = currentHour();
+            LocalDateTime since = LocalDateTime.now().minusHours(BUCKET_COUNT - 1);
+
+            Map<Long, SalesCounter> rebuilt = new ConcurrentHashMap<>();
+
+            for (OrderItemSales sales : orderRepository.findItemSalesSince(since)) {
+                rebuilt.computeIfAbsent(sales.productId(), id -> new SalesCounter())
+                        .add(hourOf(sales.orderedAt()), currentHour, sales.count());
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                pending.forEach(delta -> apply(rebuilt, delta));
+                prune(rebuilt);
+                counters = rebuilt;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // 집계 기간 동안 판매량이 0 이하가 된 상품은 카운터를 지운다 (판매가 끊긴 상품이 계속 쌓이지 않도록)
+    @Scheduled(
+            initialDelayString = "${custom.bestSeller.pruneIntervalMillis:3600000}",
+            fixedDelayString = "${custom.bestSeller.pruneIntervalMillis:3600000}"
+    )
+    public void prune() {
+        swapLock.writeLock().lock();
+        try {
+            prune(counters);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static void prune(Map<Long, SalesCounter> target) {
+        long toHour = currentHour();
+        long fromHour = toHour - BUCKET_COUNT + 1;
+
+        target.values().removeIf(counter -> counter.sum(fromHour, toHour) <= 0);
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.orderedAt(), event.orderItems(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        record(event.orderedAt(), event.orderItems(), -1);
+    }
+
+    private void record(LocalDateTime orderedAt, List<OrderItemParam> orderItems, int sign) {
+        Delta delta = new Delta(orderedAt, orderItems, sign);
+
+        swapLock.readLock().lock();
+        try {
+            apply(counters, delta);
+
+            Queue<Delta> pending = rebuilding;
+            if (pending != null) pending.add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Map<Long, SalesCounter> target, Delta delta) {
+        long hour = hourOf(delta.orderedAt());
+        long currentHour = currentHour();
+
+        for (OrderItemParam item : delta.orderItems()) {
+            target.computeIfAbsent(item.productId(), id -> new SalesCounter())
+                    .add(hour, currentHour, (long) delta.sign() * item.count());
+        }
+    }
+
+    // 기간 내 판매량 상위 limit개 상품
+    @Transactional(readOnly = true)
+    public List<BestSellerDto> getBestSellers(Period period, int limit) {
+        long toHour = currentHour();
+        long fromHour = toHour - period.hours + 1;
+
+        // 판매량이 적은 순으로 꺼내지는 크기 limit의 힙으로 상위 K개만 유지
+        PriorityQueue<Map.Entry<Long, Long>> topK = new PriorityQueue<>(Map.Entry.comparingByValue());
+
+        counters.forEach((productId, counter) -> {
+            long salesCount = counter.sum(fromHour, toHour);
+            if (salesCount <= 0) return;
+
+            topK.offer(Map.entry(productId, salesCount));
+            if (topK.size() > limit) topK.poll();
+        });
+
+        List<Map.Entry<Long, Long>> ranked = new ArrayList<>(topK);
+        ranked.sort(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        Map<Long, Product> productsById = productRepository.findAllById(ranked.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<BestSellerDto> bestSellers = new ArrayList<>(ranked.size());
+
+        for (Map.Entry<Long, Long> entry : ranked) {
+            Product product = productsById.get(entry.getKey());
+            if (product == null) continue; // 집계 이후 삭제된 상품
+
+            bestSellers.add(new BestSellerDto(
+                    bestSellers.size() + 1,
+                    product.getId(),
+                    product.getProductName(),
+                    product.getImageUrl(),
+                    entry.getValue()
+            ));
+        }
+
+        return bestSellers;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / MILLIS_PER_HOUR;
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / MILLIS_PER_HOUR;
+    }
+
+    /**
+     * 상품 하나의 시간 단위 판매량 링 버퍼
+     * 칸마다 담고 있는 시각(epoch hour)을 함께 기록해, 한 바퀴 돌아 재사용되는 칸은 처음 쓰는 스레드가 비운다
+     * 락을 쓰지 않으므로 칸이 비워지는 순간과 겹친 증감은 유실될 수 있다 (순위용 근사치로 허용)
+     */
+    private static final class SalesCounter {
+        private final AtomicLongArray bucketHours = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+        SalesCounter() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void add(long hour, long currentHour, long delta) {
+            if (hour <= currentHour - BUCKET_COUNT) return; // 집계 기간 밖
+
+            int slot = (int) (hour % BUCKET_COUNT);
+            long bucketHour = bucketHours.get(slot);
+
+            if (bucketHour > hour) return; // 이미 더 최근 시각이 쓰고 있는 칸
+
+            if (bucketHour < hour && bucketHours.compareAndSet(slot, bucketHour, hour)) {
+                buckets[slot].reset();
+            }
+
+            buckets[slot].add(delta);
+        }
+
+        long sum(long fromHour, long toHour) {
+            long sum = 0;
+
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long bucketHour = bucketHours.get(i);
+                if (bucketHour >= fromHour && bucketHour <= toHour) {
+                    sum += buckets[i].sum();
+                }
+            }
+
+            return sum;
+        }
+    }
+}
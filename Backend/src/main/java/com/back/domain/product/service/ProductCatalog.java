@@ -0,0 +1,97 @@
+package com.back.domain.product.service;
+
+import com.back.domain.product.dto.ProductCatalogEntry;
+import com.back.domain.product.event.ProductChangedEvent;
+import com.back.domain.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문 검증, 가격 계산용 인메모리 상품 카탈로그
+ * 상품 변경이 커밋될 때마다 새 스냅샷을 만들어 통째로 교체한다 (copy-on-write)
+ * 읽는 쪽은 DB 조회나 락 없이 현재 스냅샷만 참조
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCatalog {
+    private final ProductRepository productRepository;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    // 상품 변경 트랜잭션이 커밋된 뒤에만 반영 (롤백된 변경은 스냅샷에 들어가지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        reload();
+    }
+
+    // 동시에 갱신되더라도 먼저 읽은 오래된 목록이 최신 스냅샷을 덮어쓰지 않도록 쓰기 쪽만 직렬화
+    public synchronized void reload() {
+        current.set(Snapshot.of(productRepository.findAllCatalogEntries()));
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷
+     * id 오름차순으로 정렬된 원시 배열에 가격, 주문 가능 여부를 같은 인덱스로 보관
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new int[0], new boolean[0]);
+
+        private final long[] ids;
+        private final int[] prices;
+        private final boolean[] orderables;
+
+        private Snapshot(long[] ids, int[] prices, boolean[] orderables) {
+            this.ids = ids;
+            this.prices = prices;
+            this.orderables = orderables;
+        }
+
+        // entries는 id 오름차순으로 조회된 목록
+        static Snapshot of(List<ProductCatalogEntry> entries) {
+            int size = entries.size();
+            long[] ids = new long[size];
+            int[] prices = new int[size];
+            boolean[] orderables = new boolean[size];
+
+            for (int i = 0; i < size; i++) {
+                ProductCatalogEntry entry = entries.get(i);
+                ids[i] = entry.id();
+                prices[i] = entry.price();
+                orderables[i] = entry.orderable();
+            }
+
+            return new Snapshot(ids, prices, orderables);
+        }
+
+        // 없는 상품이면 음수 반환
+        public int indexOf(long productId) {
+            return Arrays.binarySearch(ids, productId);
+        }
+
+        public int priceAt(int index) {
+            return prices[index];
+        }
+
+        public boolean orderableAt(int index) {
+            return orderables[index];
+        }
+
+        public int size() {
+            return ids.length;
+        }
+    }
+}
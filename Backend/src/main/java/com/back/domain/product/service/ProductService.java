@@ -2,13 +2,17 @@ package com.back.domain.product.service;
 
 import com.back.domain.product.controller.AdmProductController;
 import com.back.domain.product.entity.Product;
+import com.back.domain.product.event.ProductChangedEvent;
 import com.back.domain.product.repository.ProductRepository;
+import com.back.global.exception.ServiceException;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.back.global.jfr.StorageUploadEvent;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -18,13 +22,20 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
     @Value("${custom.gcp.bucket}")
     private String bucketName;
     private String defaultImageLabel = "product_name";
@@ -42,15 +53,26 @@ public class ProductService {
 
     //파일업로드 및 url생성
     private String uploadFileToGCS(MultipartFile file, String fileName) throws IOException {
-        Storage storage = getStorage();
+        StorageUploadEvent event = new StorageUploadEvent();
+        event.begin();
 
-        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, fileName)
-                .setContentType(file.getContentType())
-                .build();
+        try {
+            Storage storage = getStorage();
 
-        storage.create(blobInfo, file.getInputStream());
+            BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, fileName)
+                    .setContentType(file.getContentType())
+                    .build();
 
-        return "https://storage.googleapis.com/" + bucketName + "/" + fileName;
+            storage.create(blobInfo, file.getInputStream());
+            event.success = true;
+
+            return "https://storage.googleapis.com/" + bucketName + "/" + fileName;
+        } finally {
+            event.fileName = fileName;
+            event.bytes = file.getSize();
+            event.contentType = file.getContentType();
+            event.finish();
+        }
     }
 
     //수정시 이미지 업로드
@@ -93,7 +115,7 @@ public class ProductService {
             throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
         }
 
-        return productRepository.save(
+        Product product = productRepository.save(
                 Product
                         .builder()
                         .productName(productName)
@@ -104,6 +126,9 @@ public class ProductService {
                         .orderable(orderable)
                         .build()
         );
+        eventPublisher.publishEvent(new ProductChangedEvent());
+
+        return product;
 
     }
 
@@ -114,6 +139,19 @@ public class ProductService {
         return productRepository.findAll(pageRequest);
     }
 
+    //id 목록으로 한 번에 조회, 요청한 순서 유지 (없는 상품은 제외)
+    public List<Product> getItems(List<Long> ids) {
+        Map<Long, Product> productsById = productRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return ids.stream()
+                .distinct()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public long count() {
         return productRepository.count();
     }
@@ -147,13 +185,38 @@ public class ProductService {
         product.setCategory(category);
         product.setDescription(description);
         product.setOrderable(orderable);
+        eventPublisher.publishEvent(new ProductChangedEvent());
     }
 
     public void delete(Product product) {
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductChangedEvent());
     }
 
     public void updateOrderable(Product product, boolean orderable) {
         product.setOrderable(orderable);
+        eventPublisher.publishEvent(new ProductChangedEvent());
+    }
+
+    //주문 가능 여부 일괄 변경, ids 또는 category 중 하나로 대상 지정 (UPDATE 한 번으로 처리)
+    @Transactional
+    public int bulkUpdateOrderable(List<Long> ids, String category, boolean orderable) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasCategory = category != null && !category.isBlank();
+
+        if (hasIds == hasCategory) {
+            throw new ServiceException(400, "상품 ID 목록과 카테고리 중 하나만 지정해야 합니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        int updatedCount = hasIds
+                ? productRepository.updateOrderableByIdIn(ids, orderable, now)
+                : productRepository.updateOrderableByCategory(category, orderable, now);
+
+        // 변경 건수와 관계없이 캐시 갱신은 한 번만
+        eventPublisher.publishEvent(new ProductChangedEvent());
+
+        return updatedCount;
     }
 }
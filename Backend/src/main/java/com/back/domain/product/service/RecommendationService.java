@@ -0,0 +1,199 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.OrderItemPair;
+import com.back.domain.order.dto.OrderItemParam;
+import com.back.domain.order.event.OrderCanceledEvent;
+import com.back.domain.order.event.OrderPlacedEvent;
+import com.back.domain.order.repository.OrderRepository;
+import com.back.domain.product.dto.RecommendationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 함께 구매한 상품 추천
+ * 상품 간 동시 구매 횟수를 희소 행렬(상품별 이웃 맵)로 유지하고, 상품마다 상위 N개를 미리 계산해 둔다
+ * 조회는 미리 계산된 불변 목록을 그대로 반환
+ * 동시 구매 횟수가 0 이하가 된 이웃과 이웃이 없는 행은 바로 지운다
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+    // 상품별로 미리 계산해 두는 추천 수
+    private static final int TOP_N = 10;
+    // 상품별로 유지하는 이웃 수 상한, 넘으면 하위 이웃을 잘라낸다
+    private static final int MAX_NEIGHBORS = 50;
+
+    private final OrderRepository orderRepository;
+    private final ProductCatalog productCatalog;
+
+    private volatile Map<Long, Row> matrix = new ConcurrentHashMap<>();
+    private volatile Queue<Delta> rebuilding; // 재구성 중에 들어온 증감 (교체 후 새 행렬에 다시 반영)
+    // 증감은 읽기 락으로 동시에, 행렬 교체는 쓰기 락으로 진행 중인 증감이 없을 때 처리
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private record Delta(List<Long> productIds, int delta) {
+    }
+
+    /**
+     * DB의 전체 주문으로 행렬을 새로 만든 뒤 교체
+     * 조회하는 동안 커밋된 주문은 결과에 빠질 수 있으므로, 그동안 들어온 증감을 모아 두었다가 교체할 때 다시 반영한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Queue<Delta> pending = new ConcurrentLinkedQueue<>();
+        rebuilding = pending;
+
+        try {
+            Map<Long, List<Long>> productIdsByOrder = orderRepository.findAllItemPairs()
+                    .stream()
+                    .collect(Collectors.groupingBy(
+                            OrderItemPair::orderId,
+                            Collectors.mapping(OrderItemPair::productId, Collectors.toList())
+                    ));
+
+            Map<Long, Row> rebuilt = new ConcurrentHashMap<>();
+
+            // 주문 단위로 병렬 집계 (행과 카운터 모두 동시 갱신에 안전)
+            productIdsByOrder.values()
+                    .parallelStream()
+                    .forEach(productIds -> accumulate(rebuilt, productIds, 1));
+
+            rebuilt.values()
+                    .parallelStream()
+                    .forEach(Row::compact);
+
+            swapLock.writeLock().lock();
+            try {
+                pending.forEach(delta -> apply(rebuilt, delta));
+                matrix = rebuilt;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.orderItems(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        record(event.orderItems(), -1);
+    }
+
+    private void record(List<OrderItemParam> orderItems, int delta) {
+        Delta recorded = new Delta(
+                orderItems.stream()
+                        .map(OrderItemParam::productId)
+                        .toList(),
+                delta
+        );
+
+        swapLock.readLock().lock();
+        try {
+            apply(matrix, recorded);
+
+            Queue<Delta> pending = rebuilding;
+            if (pending != null) pending.add(recorded);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Map<Long, Row> target, Delta delta) {
+        accumulate(target, delta.productIds(), delta.delta());
+
+        for (Long productId : delta.productIds()) {
+            Row row = target.get(productId);
+            if (row != null) row.compact();
+        }
+    }
+
+    // 주문 하나에 함께 담긴 상품 쌍마다 양방향으로 증감
+    // 행의 생성, 삭제와 겹치지 않도록 행 갱신은 행렬의 compute 안에서 처리하고, 이웃이 모두 사라진 행은 지운다
+    private static void accumulate(Map<Long, Row> target, List<Long> productIds, int delta) {
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+
+        for (Long productId : distinctIds) {
+            target.compute(productId, (id, row) -> {
+                Row updated = row != null ? row : new Row();
+
+                for (Long otherId : distinctIds) {
+                    if (!productId.equals(otherId)) updated.increment(otherId, delta);
+                }
+
+                return updated.counts.isEmpty() ? null : updated;
+            });
+        }
+    }
+
+    // 현재 주문 가능한 상품만 추천
+    public List<RecommendationDto> getRecommendations(long productId, int limit) {
+        Row row = matrix.get(productId);
+        if (row == null) return List.of();
+
+        ProductCatalog.Snapshot catalog = productCatalog.snapshot();
+
+        return row.top.stream()
+                .filter(recommendation -> {
+                    int index = catalog.indexOf(recommendation.productId());
+                    return index >= 0 && catalog.orderableAt(index);
+                })
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 상품 하나의 이웃(함께 구매된 상품) 행
+     * 카운터는 이웃마다 원자적으로 증감되며 0 이하가 되면 그 자리에서 지워지고, 상위 목록 재계산과 가지치기만 행 단위로 직렬화한다
+     */
+    private static final class Row {
+        private final ConcurrentHashMap<Long, Long> counts = new ConcurrentHashMap<>();
+        private volatile List<RecommendationDto> top = List.of();
+
+        void increment(Long otherId, int delta) {
+            counts.compute(otherId, (id, count) -> {
+                long next = (count != null ? count : 0L) + delta;
+                return next > 0 ? next : null;
+            });
+        }
+
+        synchronized void compact() {
+            List<RecommendationDto> sorted = counts.entrySet()
+                    .stream()
+                    .map(entry -> new RecommendationDto(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(RecommendationDto::coPurchaseCount).reversed()
+                            .thenComparing(RecommendationDto::productId))
+                    .toList();
+
+            // 희소하게 유지: 상위 MAX_NEIGHBORS개 밖의 이웃은 버린다
+            if (sorted.size() > MAX_NEIGHBORS) {
+                sorted.stream()
+                        .skip(MAX_NEIGHBORS)
+                        .forEach(recommendation -> counts.remove(recommendation.productId()));
+            }
+
+            top = sorted.stream()
+                    .limit(TOP_N)
+                    .toList();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.back.global.app;
 
+import com.back.global.security.BoundedPasswordEncoder;
 import com.back.standard.util.Ut;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -35,9 +38,21 @@ public class AppConfig {
         return !isProd();
     }
 
+    // BCrypt 연산은 요청 스레드가 아닌 전용 스레드풀(기본: CPU 코어 수)에서 수행
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${custom.passwordHashing.threads:0}") int threads,
+            @Value("${custom.passwordHashing.queueCapacity:64}") int queueCapacity,
+            @Value("${custom.passwordHashing.timeoutMillis:5000}") long timeoutMillis
+    ) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity,
+                timeoutMillis,
+                meterRegistry
+        );
     }
 
     private static ObjectMapper objectMapper;
@@ -1,6 +1,7 @@
 package com.back.global.aspect;
 
 import com.back.global.rsData.RsData;
+import com.back.global.trace.RequestTrace;
 import jakarta.servlet.http.HttpServletResponse;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -28,15 +29,17 @@ public class ResponseAspect {
                 )
             """)
     public Object handleResponse(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+
         Object proceed = joinPoint.proceed();
+        RequestTrace.record("handler", System.nanoTime() - startedAt);
 
         RsData<?> rsData = (RsData<?>) proceed;
         HttpServletResponse response = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse();
-            if (response != null) {
-                response.setStatus(rsData.code());
+        if (response != null) {
+            response.setStatus(rsData.code());
         }
 
         return proceed;
     }
 }
-
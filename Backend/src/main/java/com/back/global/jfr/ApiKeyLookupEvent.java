@@ -0,0 +1,13 @@
+package com.back.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.back.ApiKeyLookup")
+@Label("API Key Lookup")
+@Description("액세스 토큰 없이 API 키만으로 인증한 경우의 회원 조회")
+public class ApiKeyLookupEvent extends RequestEvent {
+    @Label("Found")
+    public boolean found;
+}
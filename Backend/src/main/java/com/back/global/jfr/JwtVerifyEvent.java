@@ -0,0 +1,16 @@
+package com.back.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.back.JwtVerify")
+@Label("JWT Verify")
+@Description("인증 필터의 액세스 토큰 검증 (서명 확인 + 폐기 여부)")
+public class JwtVerifyEvent extends RequestEvent {
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("Revoked")
+    public boolean revoked;
+}
@@ -0,0 +1,22 @@
+package com.back.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.back.OrderCreate")
+@Label("Order Create")
+@Description("OrderService.createOrder 실행 (트랜잭션 커밋 포함)")
+public class OrderCreateEvent extends RequestEvent {
+    @Label("Member ID")
+    public long memberId;
+
+    @Label("Item Count")
+    public int itemCount;
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Success")
+    public boolean success;
+}
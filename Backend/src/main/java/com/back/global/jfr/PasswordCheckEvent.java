@@ -0,0 +1,16 @@
+package com.back.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.back.PasswordCheck")
+@Label("Password Check")
+@Description("MemberService.checkPassword 의 BCrypt 비교")
+public class PasswordCheckEvent extends RequestEvent {
+    @Label("Member ID")
+    public long memberId;
+
+    @Label("Matched")
+    public boolean matched;
+}
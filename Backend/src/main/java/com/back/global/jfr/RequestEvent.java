@@ -0,0 +1,35 @@
+package com.back.global.jfr;
+
+import com.back.global.trace.RequestTraceFilter;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.slf4j.MDC;
+
+/**
+ * 요청 ID가 붙는 JFR 이벤트의 공통 부모
+ * 녹화 중이 아니면 begin()/finish() 모두 JIT이 거의 지워버릴 만큼 가볍다
+ *
+ * 사용법
+ * OrderCreateEvent event = new OrderCreateEvent();
+ * event.begin();
+ * ... 측정할 작업 ... (필드 값 채우기)
+ * event.finish();
+ */
+@Category({"Back", "Request"})
+@StackTrace(false)
+public abstract class RequestEvent extends Event {
+    @Label("Request ID")
+    String requestId;
+
+    // 기록 대상(기준 시간 이상, 녹화 중)일 때만 요청 ID를 붙여 기록
+    public void finish() {
+        end();
+
+        if (shouldCommit()) {
+            requestId = MDC.get(RequestTraceFilter.REQUEST_ID_MDC_KEY);
+            commit();
+        }
+    }
+}
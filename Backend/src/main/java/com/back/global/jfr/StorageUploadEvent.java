@@ -0,0 +1,24 @@
+package com.back.global.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.back.StorageUpload")
+@Label("Storage Upload")
+@Description("상품 이미지 GCS 업로드")
+public class StorageUploadEvent extends RequestEvent {
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Content Type")
+    public String contentType;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,124 @@
+package com.back.global.metrics;
+
+import com.back.global.rsData.RsData;
+import com.back.global.trace.SlowQueryLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/adm/metrics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "AdmMetricsController", description = "관리자용 성능 지표 API 컨트롤러")
+@SecurityRequirement(name = "bearerAuth")
+public class AdmMetricsController {
+    private final EndpointMetrics endpointMetrics;
+    private final SlowQueryLog slowQueryLog;
+    private final SaturationMonitor saturationMonitor;
+
+    record EndpointMetricsResBody(
+            LocalDateTime windowStartedAt,
+            long totalCount,
+            long errorCount,
+            List<EndpointMetrics.EndpointStat> endpoints
+    ) {}
+
+    @GetMapping("/endpoints")
+    @Operation(summary = "엔드포인트별 응답 시간 조회", description = "집계 구간 시작 이후의 요청 수, 처리량, p50/p95/p99 응답 시간(ms)과 요청당 할당 바이트를 반환합니다. sort=ALLOCATION이면 초당 할당량 내림차순, 기본은 p99 내림차순입니다.")
+    public RsData<EndpointMetricsResBody> getEndpointMetrics(
+            @RequestParam(defaultValue = "LATENCY") EndpointMetrics.SortBy sort
+    ) {
+        LocalDateTime windowStartedAt = endpointMetrics.getWindowStartedAt();
+        List<EndpointMetrics.EndpointStat> stats = endpointMetrics.snapshot(sort);
+
+        return new RsData<>(
+                200,
+                "엔드포인트 지표를 조회했습니다.",
+                new EndpointMetricsResBody(
+                        windowStartedAt,
+                        stats.stream().mapToLong(EndpointMetrics.EndpointStat::count).sum(),
+                        stats.stream().filter(EndpointMetrics.EndpointStat::error).mapToLong(EndpointMetrics.EndpointStat::count).sum(),
+                        stats
+                )
+        );
+    }
+
+    @DeleteMapping("/endpoints")
+    @Operation(summary = "엔드포인트 지표 초기화", description = "집계 구간을 비우고 새로 시작합니다.")
+    public RsData<Void> resetEndpointMetrics() {
+        endpointMetrics.reset();
+
+        return new RsData<>(
+                200,
+                "엔드포인트 지표를 초기화했습니다.",
+                null
+        );
+    }
+
+    record SlowQueriesResBody(
+            LocalDateTime windowStartedAt,
+            long dropped,
+            List<SlowQueryLog.SlowQueryStat> queries
+    ) {}
+
+    @GetMapping("/slow-queries")
+    @Operation(summary = "느린 SQL 조회", description = "기준 시간을 넘긴(또는 샘플링된) SQL을 형태별로 묶어 총 소요 시간 내림차순으로 반환합니다. 가장 오래 걸린 실행의 SQL과 바인딩 값을 함께 보여줍니다.")
+    public RsData<SlowQueriesResBody> getSlowQueries(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        LocalDateTime windowStartedAt = slowQueryLog.getWindowStartedAt();
+
+        return new RsData<>(
+                200,
+                "느린 SQL을 조회했습니다.",
+                new SlowQueriesResBody(
+                        windowStartedAt,
+                        slowQueryLog.getDropped(),
+                        slowQueryLog.top(Math.max(1, Math.min(limit, 100)))
+                )
+        );
+    }
+
+    @DeleteMapping("/slow-queries")
+    @Operation(summary = "느린 SQL 집계 초기화")
+    public RsData<Void> resetSlowQueries() {
+        slowQueryLog.reset();
+
+        return new RsData<>(
+                200,
+                "느린 SQL 집계를 초기화했습니다.",
+                null
+        );
+    }
+
+    record SaturationResBody(
+            long sampleIntervalMillis,
+            SaturationMonitor.Sample latest,
+            List<SaturationMonitor.Sample> samples
+    ) {}
+
+    @GetMapping("/saturation")
+    @Operation(summary = "런타임 포화도 조회", description = "Tomcat 작업 스레드, DB 커넥션 풀, Executor 대기열, GC 샘플을 최근 minutes분(최대 60분) 만큼 오래된 순서로 반환합니다.")
+    public RsData<SaturationResBody> getSaturation(
+            @RequestParam(defaultValue = "60") int minutes
+    ) {
+        List<SaturationMonitor.Sample> samples = saturationMonitor.history(Math.max(1, Math.min(minutes, 60)));
+
+        return new RsData<>(
+                200,
+                "런타임 포화도를 조회했습니다.",
+                new SaturationResBody(
+                        saturationMonitor.getSampleIntervalMillis(),
+                        samples.isEmpty() ? null : samples.get(samples.size() - 1),
+                        samples
+                )
+        );
+    }
+}
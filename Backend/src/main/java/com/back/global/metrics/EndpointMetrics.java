@@ -0,0 +1,162 @@
+package com.back.global.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 엔드포인트(메서드 + 경로 패턴 + 응답 코드)별 응답 시간, 요청당 메모리 할당량 분포
+ * 요청 스레드는 HdrHistogram Recorder에 락 없이 기록만 하고,
+ * 조회할 때 그동안 쌓인 구간을 현재 집계 구간(window)에 합친다
+ * 집계 구간은 reset()으로 비우고 새로 시작할 수 있다
+ */
+@Slf4j
+@Component
+public class EndpointMetrics {
+    private static final int SIGNIFICANT_DIGITS = 2; // 상대 오차 1% 이내
+    public static final long NOT_MEASURED = -1; // 할당량을 잴 수 없는 JVM
+
+    @Value("${custom.metrics.maxEndpoints:1000}")
+    private int maxEndpoints;
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private volatile LocalDateTime windowStartedAt = LocalDateTime.now();
+    private volatile long windowStartedAtNanos = System.nanoTime();
+
+    record Key(String method, String path, int status) {
+    }
+
+    // 구간 기록기 + 집계 구간
+    private static final class Series {
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private Histogram window = new Histogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        // 그동안 기록된 구간을 집계 구간에 합친 사본
+        private synchronized Histogram drain() {
+            interval = recorder.getIntervalHistogram(interval);
+            window.add(interval);
+
+            return window.copy();
+        }
+
+        private synchronized void reset() {
+            interval = recorder.getIntervalHistogram(interval);
+            window = new Histogram(SIGNIFICANT_DIGITS);
+        }
+    }
+
+    private static final class Entry {
+        private final Series latency = new Series(); // 마이크로초
+        private final Series allocation = new Series(); // 요청 스레드가 할당한 바이트
+    }
+
+    // 요청 하나의 응답 시간과 할당량을 같은 항목에 기록
+    public void record(String method, String path, int status, long elapsedNanos, long allocatedBytes) {
+        Entry entry = getOrCreate(method, path, status);
+        if (entry == null) return;
+
+        entry.latency.recorder.recordValue(Math.max(1, elapsedNanos / 1_000)); // 마이크로초 단위
+
+        if (allocatedBytes != NOT_MEASURED)
+            entry.allocation.recorder.recordValue(Math.max(0, allocatedBytes));
+    }
+
+    private Entry getOrCreate(String method, String path, int status) {
+        Key key = new Key(method, path, status);
+        Entry entry = entries.get(key);
+        if (entry != null) return entry;
+
+        // 경로를 알 수 없는 요청이 계속 새 키를 만들지 않도록 개수 제한
+        if (entries.size() >= maxEndpoints) {
+            log.debug("엔드포인트 지표 개수 제한 초과로 기록하지 않음: {} {} {}", method, path, status);
+            return null;
+        }
+
+        return entries.computeIfAbsent(key, k -> new Entry());
+    }
+
+    public enum SortBy {
+        LATENCY, ALLOCATION
+    }
+
+    // 현재 집계 구간의 엔드포인트별 지표 (p99 응답 시간 또는 초당 할당량 내림차순)
+    public List<EndpointStat> snapshot(SortBy sortBy) {
+        double windowSeconds = Math.max(1e-3, (System.nanoTime() - windowStartedAtNanos) / 1e9);
+
+        Comparator<EndpointStat> comparator = sortBy == SortBy.ALLOCATION
+                ? Comparator.comparingDouble(EndpointStat::allocatedBytesPerSecond)
+                : Comparator.comparingDouble(EndpointStat::p99Millis);
+
+        return entries.entrySet()
+                .stream()
+                .map(e -> EndpointStat.of(e.getKey(), e.getValue().latency.drain(), e.getValue().allocation.drain(), windowSeconds))
+                .filter(stat -> stat.count() > 0)
+                .sorted(comparator.reversed())
+                .toList();
+    }
+
+    public LocalDateTime getWindowStartedAt() {
+        return windowStartedAt;
+    }
+
+    public void reset() {
+        entries.values().forEach(entry -> {
+            entry.latency.reset();
+            entry.allocation.reset();
+        });
+
+        windowStartedAt = LocalDateTime.now();
+        windowStartedAtNanos = System.nanoTime();
+    }
+
+    public record EndpointStat(
+            String method,
+            String path,
+            int status,
+            boolean error,
+            long count,
+            double throughputPerSecond,
+            double meanMillis,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis,
+            long allocatedBytesMean,
+            long allocatedBytesP50,
+            long allocatedBytesP99,
+            double allocatedBytesPerSecond
+    ) {
+        static EndpointStat of(Key key, Histogram latency, Histogram allocation, double windowSeconds) {
+            long allocatedCount = allocation.getTotalCount();
+            // 요청 수는 두 분포 중 큰 쪽 (할당량만 기록된 항목도 빠지지 않도록)
+            long count = Math.max(latency.getTotalCount(), allocatedCount);
+
+            return new EndpointStat(
+                    key.method(),
+                    key.path(),
+                    key.status(),
+                    key.status() >= 400,
+                    count,
+                    count / windowSeconds,
+                    latency.getMean() / 1_000,
+                    latency.getValueAtPercentile(50) / 1_000.0,
+                    latency.getValueAtPercentile(95) / 1_000.0,
+                    latency.getValueAtPercentile(99) / 1_000.0,
+                    latency.getMaxValue() / 1_000.0,
+                    allocatedCount == 0 ? 0 : (long) allocation.getMean(),
+                    allocatedCount == 0 ? 0 : allocation.getValueAtPercentile(50),
+                    allocatedCount == 0 ? 0 : allocation.getValueAtPercentile(99),
+                    allocation.getMean() * allocatedCount / windowSeconds
+            );
+        }
+    }
+}
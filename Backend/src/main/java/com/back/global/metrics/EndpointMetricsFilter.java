@@ -0,0 +1,78 @@
+package com.back.global.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 엔드포인트별 응답 시간, 요청당 메모리 할당량 측정
+ * 응답이 끝난 뒤의 실제 응답 코드로 두 값을 함께 기록하므로, 예외 처리기가 만든 응답(400, 404 등)과
+ * 인자 바인딩/검증 단계에서 거절된 요청도 해당 응답 코드의 한 항목으로 집계된다
+ * 할당량은 요청 스레드가 필터 체인(컨트롤러, DTO 변환, JSON 직렬화)을 지나는 동안 할당한 바이트를
+ * ThreadMXBean으로 잰 값이며 (측정 비용은 요청당 수십 ns), 다른 스레드에서 한 할당(비동기 작업 등)은 포함되지 않는다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class EndpointMetricsFilter extends OncePerRequestFilter {
+    private final EndpointMetrics endpointMetrics;
+
+    @Value("${custom.metrics.allocation.enabled:true}")
+    private boolean allocationEnabled;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @Override
+    protected void initFilterBean() {
+        if (!allocationEnabled) return;
+
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+            threadMXBean = bean;
+        } else {
+            log.info("이 JVM은 스레드별 할당량 측정을 지원하지 않아 할당량을 기록하지 않습니다.");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long allocatedBefore = threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            long allocated = threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore : EndpointMetrics.NOT_MEASURED;
+
+            // 컨트롤러까지 도달한 요청만, 경로는 실제 URI가 아닌 매핑 패턴(/api/orders/{orderId})으로 묶는다
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            if (pattern != null) {
+                // 처리되지 않은 예외는 컨테이너가 500으로 응답한다
+                int status = failed ? 500 : response.getStatus();
+                endpointMetrics.record(request.getMethod(), pattern.toString(), status, elapsedNanos, allocated);
+            }
+        }
+    }
+}
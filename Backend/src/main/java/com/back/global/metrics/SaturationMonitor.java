@@ -0,0 +1,250 @@
+package com.back.global.metrics;
+
+import com.back.standard.ringBuffer.RingBuffer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 런타임 포화도 샘플링 (Tomcat 작업 스레드, DB 커넥션 풀, 애플리케이션 Executor, GC)
+ * 일정 간격으로 값을 읽어 순환 버퍼에 쌓아두므로 외부 모니터링 없이도 최근 한 시간의 추이를 볼 수 있다
+ * 지연 시간이 튈 때 스레드, 커넥션 풀, GC 중 어디가 병목인지 구분하는 용도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SaturationMonitor {
+    private final ApplicationContext applicationContext;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.metrics.saturation.sampleIntervalMillis:10000}")
+    private long sampleIntervalMillis;
+
+    @Value("${custom.metrics.saturation.historyMinutes:60}")
+    private int historyMinutes;
+
+    @Value("${custom.metrics.saturation.logIntervalMillis:60000}")
+    private long logIntervalMillis;
+
+    private RingBuffer<Sample> samples;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastAcquireCount;
+    private double lastAcquireMillis;
+    private long lastLoggedAt;
+
+    public record Sample(
+            LocalDateTime sampledAt,
+            Tomcat tomcat,
+            ConnectionPool connectionPool,
+            Map<String, ExecutorStat> executors,
+            Gc gc
+    ) {
+    }
+
+    // 내장 서버가 없으면(테스트 등) null
+    public record Tomcat(int busyThreads, int poolSize, int maxThreads, int queued, double utilization) {
+    }
+
+    public record ConnectionPool(int active, int idle, int total, int max, int pending, Double acquireMeanMillis, Double acquireMaxMillis) {
+    }
+
+    public record ExecutorStat(Integer active, Integer poolSize, Integer queued) {
+    }
+
+    // 직전 샘플 이후 구간의 GC 횟수, 정지 시간
+    public record Gc(long count, long pauseMillis, Double pauseMaxMillis, long heapUsedBytes, long heapMaxBytes) {
+    }
+
+    @PostConstruct
+    void init() {
+        samples = new RingBuffer<>((int) Math.max(1, TimeUnit.MINUTES.toMillis(historyMinutes) / sampleIntervalMillis));
+    }
+
+    @Scheduled(fixedRateString = "${custom.metrics.saturation.sampleIntervalMillis:10000}")
+    public synchronized void sample() {
+        Sample sample = new Sample(
+                LocalDateTime.now(),
+                sampleTomcat(),
+                sampleConnectionPool(),
+                sampleExecutors(),
+                sampleGc()
+        );
+
+        samples.add(sample);
+
+        long now = System.currentTimeMillis();
+        if (now - lastLoggedAt >= logIntervalMillis) {
+            lastLoggedAt = now;
+            log.info("saturation {}", format(sample));
+        }
+    }
+
+    // 최근 minutes분의 샘플 (오래된 순서)
+    public List<Sample> history(int minutes) {
+        int count = (int) Math.max(1, TimeUnit.MINUTES.toMillis(minutes) / sampleIntervalMillis);
+
+        return samples.latest(count);
+    }
+
+    public long getSampleIntervalMillis() {
+        return sampleIntervalMillis;
+    }
+
+    private Tomcat sampleTomcat() {
+        if (!(applicationContext instanceof ServletWebServerApplicationContext context)) return null;
+
+        WebServer webServer = context.getWebServer();
+        if (!(webServer instanceof TomcatWebServer tomcatWebServer)) return null;
+
+        Executor executor = tomcatWebServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        if (!(executor instanceof org.apache.tomcat.util.threads.ThreadPoolExecutor pool)) return null;
+
+        int busy = pool.getActiveCount();
+        int max = pool.getMaximumPoolSize();
+
+        return new Tomcat(busy, pool.getPoolSize(), max, pool.getQueue().size(), max == 0 ? 0 : (double) busy / max);
+    }
+
+    private ConnectionPool sampleConnectionPool() {
+        HikariDataSource hikari;
+
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) return null;
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return null;
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) return null; // 아직 풀이 만들어지지 않음
+
+        // 커넥션 획득 대기 시간: 직전 샘플 이후 평균, 최근 최대
+        Double acquireMean = null;
+        Double acquireMax = null;
+        Timer acquireTimer = meterRegistry.find("hikaricp.connections.acquire").timer();
+
+        if (acquireTimer != null) {
+            long count = acquireTimer.count();
+            double totalMillis = acquireTimer.totalTime(TimeUnit.MILLISECONDS);
+
+            acquireMean = count > lastAcquireCount ? (totalMillis - lastAcquireMillis) / (count - lastAcquireCount) : 0.0;
+            acquireMax = acquireTimer.max(TimeUnit.MILLISECONDS);
+
+            lastAcquireCount = count;
+            lastAcquireMillis = totalMillis;
+        }
+
+        return new ConnectionPool(
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                hikari.getMaximumPoolSize(),
+                pool.getThreadsAwaitingConnection(),
+                acquireMean,
+                acquireMax
+        );
+    }
+
+    // ExecutorServiceMetrics 등으로 등록된 executor.* 지표를 이름별로 모음
+    private Map<String, ExecutorStat> sampleExecutors() {
+        Map<String, ExecutorStat> executors = new TreeMap<>();
+
+        meterRegistry.find("executor.queued").gauges().forEach(gauge -> {
+            String name = gauge.getId().getTag("name");
+            if (name == null) return;
+
+            executors.put(name, new ExecutorStat(
+                    gaugeValue("executor.active", name),
+                    gaugeValue("executor.pool.size", name),
+                    (int) gauge.value()
+            ));
+        });
+
+        return executors;
+    }
+
+    private Integer gaugeValue(String meterName, String executorName) {
+        Gauge gauge = meterRegistry.find(meterName).tag("name", executorName).gauge();
+
+        return gauge == null ? null : (int) gauge.value();
+    }
+
+    private Gc sampleGc() {
+        long count = 0;
+        long millis = 0;
+
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, bean.getCollectionCount());
+            millis += Math.max(0, bean.getCollectionTime());
+        }
+
+        long countDelta = count - lastGcCount;
+        long millisDelta = millis - lastGcMillis;
+        lastGcCount = count;
+        lastGcMillis = millis;
+
+        Double pauseMax = meterRegistry.find("jvm.gc.pause").timers()
+                .stream()
+                .map(timer -> timer.max(TimeUnit.MILLISECONDS))
+                .max(Double::compare)
+                .orElse(null);
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        return new Gc(countDelta, millisDelta, pauseMax, heap.getUsed(), heap.getMax());
+    }
+
+    private String format(Sample sample) {
+        StringBuilder sb = new StringBuilder();
+
+        if (sample.tomcat() != null) {
+            Tomcat t = sample.tomcat();
+            sb.append("tomcatBusy=%d/%d tomcatQueued=%d ".formatted(t.busyThreads(), t.maxThreads(), t.queued()));
+        }
+
+        if (sample.connectionPool() != null) {
+            ConnectionPool p = sample.connectionPool();
+            sb.append("dbActive=%d/%d dbIdle=%d dbPending=%d ".formatted(p.active(), p.max(), p.idle(), p.pending()));
+            if (p.acquireMeanMillis() != null) sb.append("dbAcquireMeanMs=%.2f ".formatted(p.acquireMeanMillis()));
+        }
+
+        if (!sample.executors().isEmpty()) {
+            sb.append(sample.executors().entrySet()
+                    .stream()
+                    .map(e -> "%s(active=%s,queued=%s)".formatted(e.getKey(), e.getValue().active(), e.getValue().queued()))
+                    .collect(Collectors.joining(",", "executors=", " ")));
+        }
+
+        Gc gc = sample.gc();
+        sb.append("gcCount=%d gcPauseMs=%d heapUsedMb=%d".formatted(gc.count(), gc.pauseMillis(), gc.heapUsedBytes() / (1024 * 1024)));
+
+        return sb.toString();
+    }
+}
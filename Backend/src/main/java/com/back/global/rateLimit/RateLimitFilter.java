@@ -0,0 +1,121 @@
+package com.back.global.rateLimit;
+
+import com.back.global.rsData.RsData;
+import com.back.global.security.SecurityUser;
+import com.back.standard.rateLimit.TokenBucketRateLimiter;
+import com.back.standard.util.Ut;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 요청 제한
+ * 인증 필터 뒤에서 실행되어 로그인한 요청은 회원 ID, 그 외에는 IP 기준으로 제한한다
+ * 제한을 넘으면 429와 Retry-After 헤더를 돌려준다
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimitProperties rateLimitProperties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private List<Route> routes;
+
+    private record Route(
+            String method,
+            String pathPattern,
+            TokenBucketRateLimiter limiter
+    ) { }
+
+    @PostConstruct
+    void init() {
+        routes = rateLimitProperties.rules()
+                .stream()
+                .map(rule -> new Route(
+                        rule.method(),
+                        rule.path(),
+                        new TokenBucketRateLimiter(rule.capacity(), rule.refillPerSecond(), rateLimitProperties.maxKeysPerRoute())
+                ))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Route route = findRoute(request);
+
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = route.limiter().tryAcquire(clientKey(request), System.nanoTime());
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+            response.setContentType("application/json;charset=UTF-8");
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            response.getWriter().write(
+                    Ut.json.toString(
+                            RsData.of(
+                                    429,
+                                    "요청이 너무 많습니다. %d초 후 다시 시도해주세요.".formatted(retryAfterSeconds)
+                            )
+                    )
+            );
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        if (!rateLimitProperties.enabled()) return null;
+
+        for (Route route : routes) {
+            if (route.method().equalsIgnoreCase(request.getMethod())
+                    && pathMatcher.match(route.pathPattern(), request.getRequestURI()))
+                return route;
+        }
+
+        return null;
+    }
+
+    /**
+     * 비로그인 요청은 getRemoteAddr() 기준이므로 서버가 실제 클라이언트 IP를 볼 수 있어야 한다
+     * 로드밸런서, 리버스 프록시 뒤에서는 server.forward-headers-strategy(native 또는 framework)를 설정해
+     * X-Forwarded-For를 반영해야 하며, 그렇지 않으면 모든 비로그인 클라이언트가 프록시 IP 하나의 버킷을 나눠 쓴다
+     * (프록시 없이 직접 노출된 서버에서 켜면 클라이언트가 헤더로 IP를 속일 수 있으므로 켜지 않는다)
+     */
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUser securityUser)
+            return "member:" + securityUser.getId();
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // 다 채워진 버킷은 상태를 들고 있을 필요가 없으므로 주기적으로 정리
+    @Scheduled(fixedDelayString = "${custom.rateLimit.evictIntervalMillis:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+
+        for (Route route : routes) {
+            route.limiter().evictIdle(now);
+        }
+    }
+}
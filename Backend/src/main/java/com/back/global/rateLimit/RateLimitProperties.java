@@ -0,0 +1,36 @@
+package com.back.global.rateLimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 요청 제한 설정 (custom.rateLimit)
+ * @param enabled 사용 여부
+ * @param maxKeysPerRoute 경로별로 상태를 유지할 최대 클라이언트 수
+ * @param rules 경로별 제한 규칙
+ */
+@ConfigurationProperties("custom.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        int maxKeysPerRoute,
+        List<Rule> rules
+) {
+    /**
+     * @param method HTTP 메서드
+     * @param path 경로 패턴 (Ant 스타일)
+     * @param capacity 한 번에 허용하는 최대 요청 수
+     * @param refillPerSecond 초당 충전되는 요청 수
+     */
+    public record Rule(
+            String method,
+            String path,
+            int capacity,
+            double refillPerSecond
+    ) { }
+
+    public RateLimitProperties {
+        if (maxKeysPerRoute <= 0) maxKeysPerRoute = 100_000;
+        if (rules == null) rules = List.of();
+    }
+}
@@ -0,0 +1,111 @@
+package com.back.global.security;
+
+import com.back.global.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱/검증을 전용 스레드풀에서 수행하는 PasswordEncoder
+ * 스레드 수는 CPU 코어 수, 대기열은 고정 크기로 제한하여
+ * 로그인/가입 요청이 몰려도 상품, 주문 요청이 CPU를 빼앗기지 않도록 한다
+ * 대기열이 가득 차면 기다리지 않고 503으로 실패한다
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private static final String NAME = "passwordHashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int threads,
+            int queueCapacity,
+            long timeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNo = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, NAME + "-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // 풀 크기, 활성 스레드, 대기열 길이, 거절 횟수 등을 executor.* 지표로 노출
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, NAME);
+
+        // 대기 시간을 포함한 요청 스레드 기준 지연 시간
+        this.encodeTimer = Timer.builder("password.hashing")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> submit(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer.record(() -> submit(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = monitoredExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceException(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceException(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceException(503, "요청 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -3,8 +3,11 @@ package com.back.global.security;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.service.MemberService;
 import com.back.global.exception.ServiceException;
+import com.back.global.jfr.ApiKeyLookupEvent;
+import com.back.global.jfr.JwtVerifyEvent;
 import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
+import com.back.global.trace.RequestTrace;
 import com.back.standard.util.Ut;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,6 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -30,11 +34,27 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        logger.debug("Processing request for " + request.getRequestURI());
+        if (logger.isDebugEnabled()) logger.debug("Processing request for " + request.getRequestURI());
+
+        // 인증 처리 시간 측정 (다음 필터로 넘어가는 시점까지)
+        // 디버그 추적 요청은 인증이 끝난 시점에 관리자이면 추적을 시작하고, 아니면 추적을 버린다
+        // (인증 과정의 SQL, 로그에는 API 키, 토큰이 들어있으므로 그 전에는 시작하지 않는다)
+        long traceStartedAt = RequestTrace.start();
+        FilterChain chain = traceStartedAt == 0 ? filterChain : (req, res) -> {
+            RequestTrace.stop("auth", traceStartedAt);
+            if (RequestTrace.isDebugRequested()) {
+                if (isAdmin()) RequestTrace.startDebug();
+                else RequestTrace.discard();
+            }
+
+            filterChain.doFilter(req, res);
+        };
 
         try {
-            work(request, response, filterChain);
+            work(request, response, chain);
         } catch (ServiceException e) {
+            RequestTrace.stop("auth", traceStartedAt);
+            if (RequestTrace.isDebugRequested()) RequestTrace.discard();
             RsData<Void> rsData = e.getRsData();
             response.setContentType("application/json");
             response.setStatus(rsData.code());
@@ -54,7 +74,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 인증, 인가가 필요없는 API 요청이라면 패스
-        if (List.of("/api/members/login", "/api/members/logout", "/api/members/join").contains(request.getRequestURI())) {
+        if (List.of("/api/members/login", "/api/members/logout", "/api/members/join", "/api/members/refresh", "/api/members/availability").contains(request.getRequestURI())) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -79,8 +99,9 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             accessToken = rq.getCookieValue("accessToken", "");
         }
 
-        logger.debug("apiKey : " + apiKey);
-        logger.debug("accessToken : " + accessToken);
+        // 인증 정보 값은 로그에 남기지 않음 (있는지만)
+        if (logger.isDebugEnabled())
+            logger.debug("apiKey : " + (apiKey.isBlank() ? "없음" : "있음") + ", accessToken : " + (accessToken.isBlank() ? "없음" : "있음"));
 
         boolean isApiKeyExists = !apiKey.isBlank();
         boolean isAccessTokenExists = !accessToken.isBlank();
@@ -90,12 +111,65 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        Member member;
+
+        try {
+            member = authenticate(apiKey, accessToken);
+        } catch (ServiceException e) {
+            // 공개 API(상품 조회 등)는 만료되거나 잘못된 인증 정보를 익명 요청으로 처리
+            // (만료된 토큰 쿠키가 남아 있어도 로그인 없이 볼 수 있는 화면은 그대로 보이도록)
+            if (!SecurityConfig.PUBLIC_API.matches(request)) throw e;
+
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UserDetails user = new SecurityUser(
+                member.getId(),
+                member.getEmail(),
+                member.getName(),
+                member.getPassword(),
+                member.isAdmin(),
+                member.getAuthorities()
+        );
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                user,
+                user.getPassword(),
+                user.getAuthorities()
+        );
+
+        // 이 시점 이후부터는 시큐리티가 이 요청을 인증된 사용자의 요청이다.
+        SecurityContextHolder
+                .getContext()
+                .setAuthentication(authentication);
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 액세스 토큰(없으면 API 키)으로 회원 확인, 유효하지 않으면 401
+    private Member authenticate(String apiKey, String accessToken) {
+        boolean isAccessTokenExists = !accessToken.isBlank();
+
         Member member = null;
         boolean isAccessTokenValid = false;
 
         // accessToken이 존재하는 경우, 해당 토큰의 유효성을 검사
         if (isAccessTokenExists){
+            long jwtStartedAt = RequestTrace.start();
+            JwtVerifyEvent jwtVerifyEvent = new JwtVerifyEvent();
+            jwtVerifyEvent.begin();
+
             Map<String, Object> payload = memberService.payload(accessToken);
+            boolean revoked = payload != null && memberService.isAccessTokenRevoked(payload);
+
+            jwtVerifyEvent.valid = payload != null && !revoked;
+            jwtVerifyEvent.revoked = revoked;
+            jwtVerifyEvent.finish();
+            RequestTrace.stop("jwt", jwtStartedAt);
+
+            if (revoked)
+                throw new ServiceException(401, "로그아웃된 토큰입니다.");
 
             if (payload != null) {
                 Object idObj = payload.get("id");
@@ -139,40 +213,35 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
+        // 만료되거나 유효하지 않은 액세스 토큰은 재발급하지 않음 (리프레시 토큰으로 갱신)
+        if (isAccessTokenExists && !isAccessTokenValid)
+            throw new ServiceException(401, "액세스 토큰이 만료되었습니다. 토큰을 갱신해주세요.");
+
+        // 액세스 토큰 없이 API 키만 보낸 경우
         if (member == null){
-            member = memberService
-                    .findByApiKey(apiKey)
-                    .orElseThrow(() -> new ServiceException(401, "API 키가 유효하지 않습니다."));
-        }
+            ApiKeyLookupEvent apiKeyLookupEvent = new ApiKeyLookupEvent();
+            apiKeyLookupEvent.begin();
 
-        // Access Token이 유효하지 않은 경우 재발급
-        if (isAccessTokenExists && !isAccessTokenValid) {
-            String actorAccessToken = memberService.genAccessToken(member);
+            Optional<Member> opMember = memberService.findPrincipalByApiKey(apiKey);
 
-            rq.setCookie("accessToken", actorAccessToken);
-            rq.setHeader("Authorization", "Bearer " + actorAccessToken);
+            apiKeyLookupEvent.found = opMember.isPresent();
+            apiKeyLookupEvent.finish();
+
+            member = opMember.orElseThrow(() -> new ServiceException(401, "API 키가 유효하지 않습니다."));
         }
 
-        UserDetails user = new SecurityUser(
-                member.getId(),
-                member.getEmail(),
-                member.getName(),
-                member.getPassword(),
-                member.isAdmin(),
-                member.getAuthorities()
-        );
+        // 탈퇴 직후 남아 있는 세션으로 주문, 주소가 다시 생기지 않도록 차단
+        if (memberService.isMemberRevoked(member.getId()))
+            throw new ServiceException(401, "탈퇴한 회원입니다.");
 
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user,
-                user.getPassword(),
-                user.getAuthorities()
-        );
+        return member;
+    }
 
-        // 이 시점 이후부터는 시큐리티가 이 요청을 인증된 사용자의 요청이다.
-        SecurityContextHolder
-                .getContext()
-                .setAuthentication(authentication);
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        filterChain.doFilter(request, response);
+        return authentication != null && authentication.getAuthorities()
+                .stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
     }
 }
@@ -1,5 +1,6 @@
 package com.back.global.security;
 
+import com.back.global.rateLimit.RateLimitFilter;
 import com.back.global.rsData.RsData;
 import com.back.standard.util.Ut;
 import lombok.RequiredArgsConstructor;
@@ -11,11 +12,25 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
+    // 로그인 없이 사용하는 API (인증 필터도 이 목록에서는 만료되거나 잘못된 인증 정보를 익명 요청으로 처리)
+    public static final RequestMatcher PUBLIC_API = new OrRequestMatcher(
+            new AntPathRequestMatcher("/api/products/**", HttpMethod.GET.name()), // 상품 목록은 로그인 없어도 볼수있음
+            new AntPathRequestMatcher("/api/members/login"), // 로그인, 로그아웃, 토큰 갱신은 인증 없이 허용
+            new AntPathRequestMatcher("/api/members/logout"),
+            new AntPathRequestMatcher("/api/members/refresh"),
+            new AntPathRequestMatcher("/api/members/join", HttpMethod.POST.name()), // 회원 가입은 인증 없이 허용
+            new AntPathRequestMatcher("/api/members/availability", HttpMethod.GET.name()) // 이메일/닉네임 중복 확인 (회원 가입 폼)
+    );
+
     private final CustomAuthenticationFilter customAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -23,9 +38,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/favicon.ico").permitAll() // 파비콘 접근 허용 (검색 엔진 최적화)
                         .requestMatchers("/h2-console/**").permitAll() // H2 콘솔 접근 허용
-                        .requestMatchers(HttpMethod.GET, "/api/products/**").permitAll()        // 상품 목록은 로그인 없어도 볼수있음
-                        .requestMatchers("/api/members/login", "/api/members/logout").permitAll() // 로그인, 로그아웃은 인증 없이 허용
-                        .requestMatchers(HttpMethod.POST, "/api/members/join").permitAll() // 회원 가입은 인증 없이 허용
+                        .requestMatchers(PUBLIC_API).permitAll() // 로그인 없이 사용하는 API
                         .requestMatchers("/api/adm/**").hasRole("ADMIN") // 관리자 API는 ADMIN 권한이 있는 사용자만 접근 허용
                         .requestMatchers("/api/**").authenticated() // 나머지 API는 인증된 사용자만 접근 허용
                         .anyRequest().permitAll()
@@ -36,6 +49,7 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .sessionManagement(AbstractHttpConfigurer::disable)
                 .addFilterBefore(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, CustomAuthenticationFilter.class) // 인증된 회원은 회원 ID 기준으로 제한
                 .headers(
                         headers -> headers
                                 .frameOptions(
@@ -0,0 +1,54 @@
+package com.back.global.trace;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.springframework.stereotype.Component;
+
+/**
+ * 디버그 추적 중인 요청 스레드에서만 DEBUG 로그를 통과시키는 Logback 필터
+ * 다른 요청은 설정된 로그 레벨을 그대로 따른다 (MDC 조회 한 번)
+ */
+@Component
+public class DebugTraceLogFilter extends TurboFilter {
+    public static final String MDC_KEY = "debugTraceId";
+
+    private static final String[] LOGGER_PREFIXES = {"com.back", "org.hibernate.SQL"};
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || !level.isGreaterOrEqual(Level.DEBUG)) return FilterReply.NEUTRAL; // TRACE는 제외
+        if (MDC.get(MDC_KEY) == null) return FilterReply.NEUTRAL;
+
+        for (String prefix : LOGGER_PREFIXES)
+            if (logger.getName().startsWith(prefix)) return FilterReply.ACCEPT;
+
+        return FilterReply.NEUTRAL;
+    }
+
+    @PostConstruct
+    void register() {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (loggerFactory instanceof LoggerContext loggerContext) {
+            setContext(loggerContext);
+            start();
+            loggerContext.addTurboFilter(this);
+        }
+    }
+
+    @PreDestroy
+    void unregister() {
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)
+            loggerContext.getTurboFilterList().remove(this);
+
+        stop();
+    }
+}
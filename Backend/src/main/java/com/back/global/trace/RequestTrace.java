@@ -0,0 +1,147 @@
+package com.back.global.trace;
+
+import org.slf4j.MDC;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * 요청 단위 구간별 소요 시간 (인증, JWT 검증, 컨트롤러 처리, SQL, 직렬화)
+ * 샘플링된 요청이나 관리자가 디버그 헤더를 보낸 요청에서만 스레드에 붙어 있고,
+ * 그 외 요청에서는 start()가 0을 돌려주므로 측정 지점의 비용은 ThreadLocal 조회 한 번뿐이다
+ *
+ * 사용법
+ * long startedAt = RequestTrace.start();
+ * ... 측정할 작업 ...
+ * RequestTrace.stop("phase", startedAt);
+ */
+public final class RequestTrace {
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final boolean debugRequested; // 디버그 헤더를 보낸 요청 (아직 관리자인지 모름)
+    private String debugId; // 인증 필터에서 관리자로 확인된 뒤에만 존재
+    private boolean discarded;
+
+    private static final class Phase {
+        private long nanos;
+        private int count;
+    }
+
+    private RequestTrace(boolean debugRequested) {
+        this.debugRequested = debugRequested;
+    }
+
+    static RequestTrace begin(boolean debugRequested) {
+        RequestTrace trace = new RequestTrace(debugRequested);
+        CURRENT.set(trace);
+
+        return trace;
+    }
+
+    // 디버그 헤더를 보냈지만 아직 추적을 시작하지 않은 요청
+    public static boolean isDebugRequested() {
+        RequestTrace trace = CURRENT.get();
+
+        return trace != null && trace.debugRequested && trace.debugId == null;
+    }
+
+    /**
+     * 디버그 추적 시작 (SQL 바인딩 값 로그, 요청 스레드 DEBUG 로그)
+     * 인증 정보가 로그에 남지 않도록 인증 필터가 관리자임을 확인한 뒤에만 호출한다
+     */
+    public static void startDebug() {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null || !trace.debugRequested || trace.debugId != null) return;
+
+        trace.debugId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put(DebugTraceLogFilter.MDC_KEY, trace.debugId);
+    }
+
+    // 디버그 추적 중인 요청이면 추적 ID, 아니면 null
+    public static String debugId() {
+        RequestTrace trace = CURRENT.get();
+
+        return trace == null ? null : trace.debugId;
+    }
+
+    // 권한이 없는 디버그 요청 등: 이후로는 측정하지 않고, 응답에도 아무것도 남기지 않음
+    public static void discard() {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) return;
+
+        trace.discarded = true;
+        CURRENT.remove();
+        MDC.remove(DebugTraceLogFilter.MDC_KEY);
+    }
+
+    // 디버그 헤더를 보냈지만 관리자 확인까지 가지 못한 요청(인증 전에 응답한 경우 등)도 버린 것으로 본다
+    boolean isDiscarded() {
+        return discarded || (debugRequested && debugId == null);
+    }
+
+    String getDebugId() {
+        return debugId;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    // 측정 중인 요청이면 현재 시각, 아니면 0
+    public static long start() {
+        return CURRENT.get() == null ? 0 : System.nanoTime();
+    }
+
+    public static void stop(String phase, long startedAt) {
+        if (startedAt == 0) return;
+
+        record(phase, System.nanoTime() - startedAt);
+    }
+
+    public static void record(String phase, long elapsedNanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) return;
+
+        Phase p = trace.phases.computeIfAbsent(phase, k -> new Phase());
+        p.nanos += elapsedNanos;
+        p.count++;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    // Server-Timing: auth;dur=0.41, jwt;dur=0.05, db;dur=3.20;desc="4", ..., total;dur=12.80
+    String toServerTiming() {
+        StringJoiner joiner = new StringJoiner(", ");
+
+        phases.forEach((name, phase) -> joiner.add(
+                phase.count > 1
+                        ? "%s;dur=%.2f;desc=\"%d\"".formatted(name, phase.nanos / 1e6, phase.count)
+                        : "%s;dur=%.2f".formatted(name, phase.nanos / 1e6)
+        ));
+        joiner.add("total;dur=%.2f".formatted(elapsedNanos() / 1e6));
+
+        return joiner.toString();
+    }
+
+    // 로그용 key=value 형식
+    String toLogFields() {
+        StringJoiner joiner = new StringJoiner(" ");
+
+        phases.forEach((name, phase) -> {
+            joiner.add("%sMs=%.2f".formatted(name, phase.nanos / 1e6));
+            if (phase.count > 1) joiner.add("%sCount=%d".formatted(name, phase.count));
+        });
+
+        return joiner.toString();
+    }
+}
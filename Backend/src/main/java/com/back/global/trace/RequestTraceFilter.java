@@ -0,0 +1,125 @@
+package com.back.global.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 구간별 소요 시간 측정 (샘플링 또는 관리자 디버그 헤더)
+ * 측정하는 요청은 응답 본문을 버퍼에 모았다가 Server-Timing 헤더를 붙여 내보내고, 같은 내용을 로그로 남긴다
+ * 샘플링 비율이 0이면(기본값) 헤더 확인과 난수 하나 비교하는 것 외에는 아무것도 하지 않는다
+ * 시큐리티 필터보다 먼저 실행되어야 인증 구간까지 측정된다
+ * 모든 API 요청에는 요청 ID(X-Request-Id)를 붙여 MDC, JFR 이벤트, 응답 헤더에서 같은 값으로 찾을 수 있게 한다
+ *
+ * X-Debug-Trace 헤더를 보낸 요청은 인증 필터에서 관리자로 확인된 시점부터
+ * - 실행한 SQL을 바인딩 값, 소요 시간과 함께 로그로 남기고
+ * - 해당 요청 스레드에서만 com.back, org.hibernate.SQL 로거의 DEBUG 로그를 출력하며 (전역 로그 레벨은 그대로)
+ * - 로그를 찾을 수 있도록 X-Debug-Trace-Id 응답 헤더에 추적 ID를 돌려준다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTraceFilter extends OncePerRequestFilter {
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+    public static final String DEBUG_HEADER = "X-Debug-Trace";
+    public static final String DEBUG_ID_HEADER = "X-Debug-Trace-Id";
+
+    @Value("${custom.requestTrace.sampleRate:0}")
+    private double sampleRate;
+
+    @Value("${custom.requestTrace.debugHeaderEnabled:true}")
+    private boolean debugEnabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 요청 ID: 로그(MDC), JFR 이벤트, 응답 헤더에서 같은 요청을 찾을 수 있도록
+        String requestId = getRequestId(request);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        try {
+            doFilterWithTrace(request, response, filterChain);
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    private void doFilterWithTrace(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean debugRequested = debugEnabled && request.getHeader(DEBUG_HEADER) != null;
+
+        if (!debugRequested && !isSampled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 디버그 요청은 여기서는 요청 여부만 표시하고, 인증 필터에서 관리자임을 확인한 뒤에 추적을 시작한다
+        // (관리자가 아니면 추적을 버린다)
+        RequestTrace trace = RequestTrace.begin(debugRequested);
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            RequestTrace.end();
+            MDC.remove(DebugTraceLogFilter.MDC_KEY);
+
+            if (!trace.isDiscarded()) {
+                responseWrapper.setHeader("Server-Timing", trace.toServerTiming());
+                if (trace.getDebugId() != null) responseWrapper.setHeader(DEBUG_ID_HEADER, trace.getDebugId());
+            }
+
+            responseWrapper.copyBodyToResponse();
+
+            if (!trace.isDiscarded()) {
+                log.info("request-trace requestId={} method={} path={} status={} totalMs={} {}{}",
+                        MDC.get(REQUEST_ID_MDC_KEY),
+                        request.getMethod(),
+                        getPath(request),
+                        responseWrapper.getStatus(),
+                        "%.2f".formatted(trace.elapsedNanos() / 1e6),
+                        trace.toLogFields(),
+                        trace.getDebugId() != null ? " debugId=" + trace.getDebugId() : ""
+                );
+            }
+        }
+    }
+
+    // 앞단(프록시, 게이트웨이)에서 붙인 요청 ID가 있으면 그대로 사용
+    private String getRequestId(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+
+        if (requestId != null && !requestId.isBlank() && requestId.length() <= 64 && requestId.chars().allMatch(c -> c > 0x20 && c < 0x7f))
+            return requestId;
+
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    private boolean isSampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String getPath(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,209 @@
+package com.back.global.trace;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 느린 SQL 기록
+ * 기준 시간을 넘긴 SQL(또는 일정 비율로 샘플링한 SQL)만 바인딩 값과 함께 남긴다
+ * 요청 스레드는 크기가 정해진 버퍼에 넣기만 하고(가득 차면 버림), 로그 출력과 형태별 집계는 별도 스레드가 처리한다
+ * 집계 조회는 그 시점의 값을 바로 돌려주므로, 버퍼에 남아 있는 기록은 잠시 뒤에 반영된다
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+    private static final int MAX_PARAM_LENGTH = 50;
+
+    @Value("${custom.slowQuery.thresholdMillis:200}")
+    private long thresholdMillis;
+
+    @Value("${custom.slowQuery.sampleRate:0}")
+    private double sampleRate;
+
+    @Value("${custom.slowQuery.queueCapacity:1000}")
+    private int queueCapacity;
+
+    @Value("${custom.slowQuery.maxShapes:500}")
+    private int maxShapes;
+
+    private BlockingQueue<Capture> queue;
+    private final ConcurrentMap<String, ShapeStat> stats = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile LocalDateTime windowStartedAt = LocalDateTime.now();
+    private Thread writer;
+
+    private record Capture(String sql, String params, long elapsedMillis, boolean slow, boolean success, LocalDateTime executedAt) {
+    }
+
+    private static final class ShapeStat {
+        private final String shape;
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+        private String maxSql;
+        private String maxParams;
+        private LocalDateTime lastExecutedAt;
+
+        private ShapeStat(String shape) {
+            this.shape = shape;
+        }
+    }
+
+    public record SlowQueryStat(
+            String shape,
+            long count,
+            long totalMillis,
+            double meanMillis,
+            long maxMillis,
+            String maxSql,
+            String maxParams,
+            LocalDateTime lastExecutedAt
+    ) {
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        writer = new Thread(this::drainLoop, "slow-query-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        writer.interrupt();
+    }
+
+    // 요청 스레드에서 호출 (JDBC 실행 직후)
+    void capture(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        boolean slow = elapsedMillis >= thresholdMillis;
+
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) return;
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            Capture capture = new Capture(queryInfo.getQuery(), formatParams(queryInfo), elapsedMillis, slow, execInfo.isSuccess(), now);
+
+            if (!queue.offer(capture)) dropped.incrementAndGet();
+        }
+    }
+
+    private void drainLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Capture capture = queue.poll(1, TimeUnit.SECONDS);
+                if (capture != null) write(capture);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("느린 SQL 기록 실패", e);
+            }
+        }
+    }
+
+    private void write(Capture capture) {
+        if (capture.slow())
+            log.warn("slow-query elapsedMs={} success={} sql={} params={}", capture.elapsedMillis(), capture.success(), capture.sql(), capture.params());
+        else
+            log.info("sampled-query elapsedMs={} success={} sql={} params={}", capture.elapsedMillis(), capture.success(), capture.sql(), capture.params());
+
+        aggregate(capture);
+    }
+
+    private void aggregate(Capture capture) {
+        String shape = SqlStatementCounter.shapeOf(capture.sql());
+
+        ShapeStat stat = stats.get(shape);
+        if (stat == null) {
+            if (stats.size() >= maxShapes) return;
+            stat = stats.computeIfAbsent(shape, ShapeStat::new);
+        }
+
+        synchronized (stat) {
+            stat.count++;
+            stat.totalMillis += capture.elapsedMillis();
+            stat.lastExecutedAt = capture.executedAt();
+
+            if (stat.maxSql == null || capture.elapsedMillis() >= stat.maxMillis) {
+                stat.maxMillis = capture.elapsedMillis();
+                stat.maxSql = capture.sql();
+                stat.maxParams = capture.params();
+            }
+        }
+    }
+
+    // 형태별 집계 (총 소요 시간 내림차순)
+    // 기록 스레드를 기다리거나 대신 처리하지 않고 지금까지 집계된 값만 돌려준다
+    public List<SlowQueryStat> top(int limit) {
+        return stats.values()
+                .stream()
+                .map(stat -> {
+                    synchronized (stat) {
+                        return new SlowQueryStat(
+                                stat.shape,
+                                stat.count,
+                                stat.totalMillis,
+                                (double) stat.totalMillis / stat.count,
+                                stat.maxMillis,
+                                stat.maxSql,
+                                stat.maxParams,
+                                stat.lastExecutedAt
+                        );
+                    }
+                })
+                .sorted(Comparator.comparingLong(SlowQueryStat::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public LocalDateTime getWindowStartedAt() {
+        return windowStartedAt;
+    }
+
+    public void reset() {
+        queue.clear();
+        stats.clear();
+        dropped.set(0);
+        windowStartedAt = LocalDateTime.now();
+    }
+
+    // 바인딩 값 (긴 값은 잘라냄, 배치 실행은 묶음마다 [..])
+    static String formatParams(QueryInfo queryInfo) {
+        return queryInfo.getParametersList()
+                .stream()
+                .map(params -> params.stream()
+                        .map(ParameterSetOperation::getArgs)
+                        .map(args -> args.length > 1 ? truncate(String.valueOf(args[1])) : "")
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_PARAM_LENGTH ? value.substring(0, MAX_PARAM_LENGTH) + "..." : value;
+    }
+}
@@ -0,0 +1,85 @@
+package com.back.global.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청당 SQL 실행 횟수 감시
+ * 요청 하나가 허용 횟수를 넘기거나, 같은 형태의 쿼리가 반복 실행되면(N+1 의심) 해당 쿼리 형태와 함께 경고 로그를 남긴다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    @Value("${custom.sqlBudget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.sqlBudget.maxStatementsPerRequest:20}")
+    private int maxStatementsPerRequest;
+
+    // 같은 형태의 쿼리가 이 횟수 이상 실행되면 N+1로 의심
+    @Value("${custom.sqlBudget.repeatThreshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            filterChain.doFilter(request, response);
+
+            check(request, scope);
+        }
+    }
+
+    private void check(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        Map<String, Integer> repeated = scope.shapes()
+                .entrySet()
+                .stream()
+                .filter(e -> e.getValue() >= repeatThreshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        boolean overBudget = scope.count() > maxStatementsPerRequest;
+
+        if (!overBudget && repeated.isEmpty()) return;
+
+        log.warn("SQL 실행 횟수 경고 method={} path={} statements={} budget={} {}\n{}",
+                request.getMethod(),
+                getPath(request),
+                scope.count(),
+                maxStatementsPerRequest,
+                repeated.isEmpty() ? "" : "N+1 의심 쿼리 " + repeated.size() + "개",
+                format(overBudget ? scope.shapes() : repeated)
+        );
+    }
+
+    private String format(Map<String, Integer> shapes) {
+        return shapes.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(e -> "  %d회: %s".formatted(e.getValue(), e.getKey()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String getPath(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,89 @@
+package com.back.global.trace;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 스레드(요청, 테스트) 단위 SQL 실행 횟수 집계
+ * 열려 있는 범위(Scope)마다 실행 횟수와 SQL 형태(값을 뺀 문장)별 횟수를 센다
+ * 범위는 중첩될 수 있으며, 안쪽 범위의 실행은 바깥 범위에도 함께 집계된다
+ *
+ * 테스트에서 사용
+ * try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+ *     mvc.perform(...);
+ *     assertThat(scope.count()).isLessThanOrEqualTo(2);
+ * }
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope open() {
+        Deque<Scope> scopes = SCOPES.get();
+
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+
+        Scope scope = new Scope();
+        scopes.push(scope);
+
+        return scope;
+    }
+
+    static void record(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null || scopes.isEmpty()) return;
+
+        String shape = shapeOf(sql);
+
+        for (Scope scope : scopes) {
+            scope.count++;
+            scope.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    // 주석, 공백 차이와 IN 목록 길이를 지워 같은 형태의 쿼리끼리 묶이도록 함
+    static String shapeOf(String sql) {
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+
+        return IN_LIST.matcher(shape).replaceAll("(?...)");
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private int count;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+        private Scope() {
+        }
+
+        public int count() {
+            return count;
+        }
+
+        // SQL 형태별 실행 횟수 (처음 실행된 순서)
+        public Map<String, Integer> shapes() {
+            return shapes;
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = SCOPES.get();
+            if (scopes == null) return;
+
+            scopes.remove(this);
+            if (scopes.isEmpty()) SCOPES.remove();
+        }
+    }
+}
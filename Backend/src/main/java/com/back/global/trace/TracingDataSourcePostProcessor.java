@@ -0,0 +1,80 @@
+package com.back.global.trace;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * DataSource를 프록시로 감싸 JDBC 실행마다 소요 시간을 RequestTrace의 db 구간에 기록하고,
+ * SqlStatementCounter의 열린 범위에 실행 횟수를 집계하며, 느린 SQL은 SlowQueryLog로 넘긴다
+ * 디버그 추적 중인 요청은 모든 SQL을 바인딩 값과 함께 로그로 남긴다
+ * 측정 중이 아닌 스레드에서는 ThreadLocal 조회 외에 하는 일이 없다
+ */
+@Slf4j
+@Component
+public class TracingDataSourcePostProcessor implements BeanPostProcessor {
+    private static final String STARTED_AT = "requestTrace.startedAt";
+
+    // BeanPostProcessor는 먼저 만들어지므로 SlowQueryLog는 첫 실행 시점에 꺼낸다
+    private final ObjectProvider<SlowQueryLog> slowQueryLogProvider;
+    private volatile SlowQueryLog slowQueryLog;
+
+    public TracingDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLogProvider) {
+        this.slowQueryLogProvider = slowQueryLogProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) return bean;
+
+        return ProxyDataSourceBuilder
+                .create(dataSource)
+                .name(beanName)
+                .listener(new QueryExecutionListener() {
+                    @Override
+                    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        long startedAt = RequestTrace.start();
+                        if (startedAt != 0) execInfo.addCustomValue(STARTED_AT, startedAt);
+                    }
+
+                    @Override
+                    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+                        if (startedAt != null) RequestTrace.stop("db", startedAt);
+
+                        for (QueryInfo queryInfo : queryInfoList)
+                            SqlStatementCounter.record(queryInfo.getQuery());
+
+                        String debugId = RequestTrace.debugId();
+                        if (debugId != null) {
+                            for (QueryInfo queryInfo : queryInfoList)
+                                log.info("debug-trace id={} elapsedMs={} sql={} params={}",
+                                        debugId, execInfo.getElapsedTime(), queryInfo.getQuery(), SlowQueryLog.formatParams(queryInfo));
+                        }
+
+                        SlowQueryLog slowQueries = getSlowQueryLog();
+                        if (slowQueries != null) slowQueries.capture(execInfo, queryInfoList);
+                    }
+                })
+                .build();
+    }
+
+    private SlowQueryLog getSlowQueryLog() {
+        SlowQueryLog current = slowQueryLog;
+        if (current == null) {
+            current = slowQueryLogProvider.getIfAvailable();
+            slowQueryLog = current;
+        }
+
+        return current;
+    }
+}
@@ -0,0 +1,27 @@
+package com.back.global.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// 응답 본문 JSON 직렬화 시간을 RequestTrace의 serialize 구간에 기록
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        long startedAt = RequestTrace.start();
+
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTrace.stop("serialize", startedAt);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.back.global.webMvc;
 
+import com.back.global.trace.TracingJackson2HttpMessageConverter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     @Override
@@ -15,4 +20,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    // JSON 변환기를 직렬화 시간을 측정하는 변환기로 교체 (설정된 ObjectMapper는 그대로 사용)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter ->
+                converter.getClass() == MappingJackson2HttpMessageConverter.class
+                        ? new TracingJackson2HttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                        : converter
+        );
+    }
 }
@@ -0,0 +1,52 @@
+package com.back.standard.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 크기가 고정된 Bloom 필터
+ * 없는 키는 확실히 없다고 답하고, 있는 키는 (오탐률만큼 틀릴 수 있는) "있을 수도 있음"으로 답한다
+ * 키를 지울 수 없으므로 삭제가 쌓이면 새로 만들어 교체한다
+ * 조회/기록 모두 락 없이 처리한다
+ */
+public class BloomFilter {
+    private final int numBits; // 2의 거듭제곱
+    private final int numHashes;
+    private final AtomicLongArray bits;
+
+    /**
+     * @param expectedInsertions 예상 키 개수
+     * @param falsePositiveRate 목표 오탐률
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        BloomHashing.validate(expectedInsertions, falsePositiveRate);
+
+        this.numBits = BloomHashing.numBits(expectedInsertions, falsePositiveRate);
+        this.numHashes = BloomHashing.numHashes(numBits, expectedInsertions);
+        this.bits = new AtomicLongArray(numBits >>> 6);
+    }
+
+    public void put(String key) {
+        long hash = BloomHashing.hash(key);
+
+        for (int i = 0; i < numHashes; i++) {
+            int bitIndex = BloomHashing.bitIndex(hash, i, numBits);
+            long mask = 1L << bitIndex;
+            int wordIndex = bitIndex >>> 6;
+
+            if ((bits.get(wordIndex) & mask) == 0)
+                bits.getAndAccumulate(wordIndex, mask, (word, m) -> word | m);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = BloomHashing.hash(key);
+
+        for (int i = 0; i < numHashes; i++) {
+            int bitIndex = BloomHashing.bitIndex(hash, i, numBits);
+
+            if ((bits.get(bitIndex >>> 6) & (1L << bitIndex)) == 0) return false;
+        }
+
+        return true;
+    }
+}
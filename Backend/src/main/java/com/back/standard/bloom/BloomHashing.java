@@ -0,0 +1,53 @@
+package com.back.standard.bloom;
+
+import java.nio.charset.StandardCharsets;
+
+// Bloom 필터 공용 크기 계산 / 해시 함수
+final class BloomHashing {
+    private BloomHashing() {
+    }
+
+    static void validate(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("예상 키 개수는 0보다 커야 합니다.");
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+    }
+
+    // 목표 오탐률에 필요한 비트 수 (2의 거듭제곱으로 올림)
+    static int numBits(int expectedInsertions, double falsePositiveRate) {
+        double optimalBits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+
+        return Math.max(64, Integer.highestOneBit((int) Math.min(1 << 30, Math.ceil(optimalBits)) - 1) << 1);
+    }
+
+    static int numHashes(int numBits, int expectedInsertions) {
+        return Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    // 더블 해싱 (h1 + i * h2)
+    static int bitIndex(long hash, int i, int numBits) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        return (h1 + i * h2) & (numBits - 1);
+    }
+
+    // FNV-1a 64비트 + MurmurHash3 finalizer
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,124 @@
+package com.back.standard.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 만료 시각 기준으로 버킷을 나눈 Bloom 필터
+ * 키는 만료 시각이 속한 버킷에만 기록되고, 버킷의 시간대가 지나면 통째로 조회 대상에서 빠진다
+ * (만료된 키를 하나씩 지울 필요 없이 메모리가 일정하게 유지됨)
+ * 조회/기록 모두 락 없이 처리한다
+ */
+public class TimeBucketedBloomFilter {
+    private final long bucketMillis;
+    private final int numBits; // 2의 거듭제곱
+    private final int numHashes;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    private static final class Bucket {
+        private final long epoch; // 만료 시각 / bucketMillis
+        private final AtomicLongArray bits;
+
+        private Bucket(long epoch, int numBits) {
+            this.epoch = epoch;
+            this.bits = new AtomicLongArray(numBits >>> 6);
+        }
+    }
+
+    /**
+     * @param maxTtlMillis 기록될 키의 최대 수명 (지금으로부터 이 시간 안에 만료되는 키만 기록 가능)
+     * @param bucketMillis 버킷 하나가 담당하는 시간 폭
+     * @param expectedInsertionsPerBucket 버킷당 예상 키 개수
+     * @param falsePositiveRate 목표 오탐률
+     */
+    public TimeBucketedBloomFilter(long maxTtlMillis, long bucketMillis, int expectedInsertionsPerBucket, double falsePositiveRate) {
+        if (maxTtlMillis <= 0 || bucketMillis <= 0)
+            throw new IllegalArgumentException("시간 값은 0보다 커야 합니다.");
+        BloomHashing.validate(expectedInsertionsPerBucket, falsePositiveRate);
+
+        this.bucketMillis = bucketMillis;
+        this.numBits = BloomHashing.numBits(expectedInsertionsPerBucket, falsePositiveRate);
+        this.numHashes = BloomHashing.numHashes(numBits, expectedInsertionsPerBucket);
+        // 현재 버킷 + 최대 수명만큼의 버킷 + 경계 여유분
+        this.buckets = new AtomicReferenceArray<>((int) (maxTtlMillis / bucketMillis) + 2);
+    }
+
+    public void put(String key, long expiresAtMillis, long nowMillis) {
+        long epoch = expiresAtMillis / bucketMillis;
+        long nowEpoch = nowMillis / bucketMillis;
+
+        if (epoch < nowEpoch) return; // 이미 만료된 키
+        if (epoch - nowEpoch >= buckets.length())
+            throw new IllegalArgumentException("만료 시각이 필터가 다루는 범위를 벗어났습니다.");
+
+        Bucket bucket = bucketFor(epoch);
+        long hash = BloomHashing.hash(key);
+
+        for (int i = 0; i < numHashes; i++) {
+            int bitIndex = bitIndex(hash, i);
+            long mask = 1L << bitIndex;
+            int wordIndex = bitIndex >>> 6;
+
+            if ((bucket.bits.get(wordIndex) & mask) == 0)
+                bucket.bits.getAndAccumulate(wordIndex, mask, (word, m) -> word | m);
+        }
+    }
+
+    public boolean mightContain(String key, long nowMillis) {
+        long nowEpoch = nowMillis / bucketMillis;
+        long hash = 0;
+        boolean hashed = false;
+
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null || bucket.epoch < nowEpoch) continue; // 비었거나 시간대가 지난 버킷
+
+            if (!hashed) {
+                hash = BloomHashing.hash(key);
+                hashed = true;
+            }
+
+            if (contains(bucket, hash)) return true;
+        }
+
+        return false;
+    }
+
+    // 시간대가 지난 버킷의 메모리를 반환
+    public void purgeExpired(long nowMillis) {
+        long nowEpoch = nowMillis / bucketMillis;
+
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch < nowEpoch)
+                buckets.compareAndSet(slot, bucket, null);
+        }
+    }
+
+    private boolean contains(Bucket bucket, long hash) {
+        for (int i = 0; i < numHashes; i++) {
+            int bitIndex = bitIndex(hash, i);
+
+            if ((bucket.bits.get(bitIndex >>> 6) & (1L << bitIndex)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    // 해당 시간대의 버킷을 꺼내고, 슬롯에 지난 시간대의 버킷이 있으면 새 버킷으로 교체
+    private Bucket bucketFor(long epoch) {
+        int slot = (int) (epoch % buckets.length());
+
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch == epoch) return bucket;
+
+            Bucket newBucket = new Bucket(epoch, numBits);
+            if (buckets.compareAndSet(slot, bucket, newBucket)) return newBucket;
+        }
+    }
+
+    private int bitIndex(long hash, int i) {
+        return BloomHashing.bitIndex(hash, i, numBits);
+    }
+}
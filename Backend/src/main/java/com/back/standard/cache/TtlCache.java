@@ -0,0 +1,75 @@
+package com.back.standard.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 항목마다 만료 시각을 가지는 크기 제한 캐시
+ * 조회는 락 없이 처리하고, 가득 찼을 때만 만료 항목을 정리한 뒤 그래도 부족하면 임의의 항목을 비운다
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class TtlCache<K, V> {
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    public TtlCache(int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다.");
+
+        this.maxSize = maxSize;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.value();
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) return;
+
+        if (entries.size() >= maxSize) evict(now);
+
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료 항목을 먼저 지우고, 그래도 가득 차 있으면 1/10 정도를 비워 자리를 만든다
+    private void evict(long nowMillis) {
+        entries.values().removeIf(entry -> entry.isExpired(nowMillis));
+
+        int overflow = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<K> iterator = entries.keySet().iterator();
+
+        while (overflow-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.back.standard.geo;
+
+import java.util.*;
+
+/**
+ * 격자 기반 공간 인덱스
+ * 각 다각형의 경계 상자가 걸치는 격자 칸마다 다각형을 등록해 두고,
+ * 조회 시에는 좌표가 속한 칸의 후보만 포함 여부를 판정한다
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 조회해도 안전하다
+ * @param <T> 다각형에 연결된 값 타입
+ */
+public class GeoGridIndex<T> {
+    private final double cellDegrees;
+    private final Map<Long, List<Entry<T>>> cells;
+
+    private record Entry<T>(GeoPolygon polygon, T value) { }
+
+    private GeoGridIndex(double cellDegrees, Map<Long, List<Entry<T>>> cells) {
+        this.cellDegrees = cellDegrees;
+        this.cells = cells;
+    }
+
+    /**
+     * 좌표를 포함하는 첫 번째 다각형의 값 (등록 순서 기준)
+     */
+    public Optional<T> find(GeoPoint point) {
+        List<Entry<T>> candidates = cells.get(cellKey(point.latitude(), point.longitude(), cellDegrees));
+        if (candidates == null) return Optional.empty();
+
+        for (Entry<T> candidate : candidates) {
+            if (candidate.polygon().contains(point)) return Optional.of(candidate.value());
+        }
+
+        return Optional.empty();
+    }
+
+    public static <T> Builder<T> builder(double cellDegrees) {
+        return new Builder<>(cellDegrees);
+    }
+
+    public static class Builder<T> {
+        private final double cellDegrees;
+        private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+
+        private Builder(double cellDegrees) {
+            if (cellDegrees <= 0)
+                throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다.");
+
+            this.cellDegrees = cellDegrees;
+        }
+
+        public Builder<T> add(GeoPolygon polygon, T value) {
+            Entry<T> entry = new Entry<>(polygon, value);
+
+            long minRow = (long) Math.floor(polygon.minLatitude() / cellDegrees);
+            long maxRow = (long) Math.floor(polygon.maxLatitude() / cellDegrees);
+            long minCol = (long) Math.floor(polygon.minLongitude() / cellDegrees);
+            long maxCol = (long) Math.floor(polygon.maxLongitude() / cellDegrees);
+
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    cells.computeIfAbsent(pack(row, col), key -> new ArrayList<>(1)).add(entry);
+                }
+            }
+
+            return this;
+        }
+
+        public GeoGridIndex<T> build() {
+            Map<Long, List<Entry<T>>> frozen = new HashMap<>(cells.size() * 2);
+            cells.forEach((key, entries) -> frozen.put(key, List.copyOf(entries)));
+
+            return new GeoGridIndex<>(cellDegrees, frozen);
+        }
+    }
+
+    private static long cellKey(double latitude, double longitude, double cellDegrees) {
+        return pack((long) Math.floor(latitude / cellDegrees), (long) Math.floor(longitude / cellDegrees));
+    }
+
+    private static long pack(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,22 @@
+package com.back.standard.geo;
+
+/**
+ * 위도/경도 좌표
+ */
+public record GeoPoint(
+        double latitude,
+        double longitude
+) {
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 두 좌표 사이의 거리 (하버사인 공식, km)
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLng = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,78 @@
+package com.back.standard.geo;
+
+import java.util.List;
+
+/**
+ * 위도/경도 다각형 (단순 다각형, 평면 근사)
+ * 꼭짓점을 기본형 배열로 보관하여 포함 여부 판정 시 객체 생성이 없다
+ */
+public class GeoPolygon {
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    public GeoPolygon(List<GeoPoint> vertices) {
+        if (vertices.size() < 3)
+            throw new IllegalArgumentException("다각형은 꼭짓점이 3개 이상이어야 합니다.");
+
+        int size = vertices.size();
+        latitudes = new double[size];
+        longitudes = new double[size];
+
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            GeoPoint vertex = vertices.get(i);
+            latitudes[i] = vertex.latitude();
+            longitudes[i] = vertex.longitude();
+
+            minLat = Math.min(minLat, vertex.latitude());
+            maxLat = Math.max(maxLat, vertex.latitude());
+            minLng = Math.min(minLng, vertex.longitude());
+            maxLng = Math.max(maxLng, vertex.longitude());
+        }
+
+        minLatitude = minLat;
+        maxLatitude = maxLat;
+        minLongitude = minLng;
+        maxLongitude = maxLng;
+    }
+
+    // 반직선 교차 판정 (ray casting)
+    public boolean contains(GeoPoint point) {
+        double lat = point.latitude();
+        double lng = point.longitude();
+
+        if (lat < minLatitude || lat > maxLatitude || lng < minLongitude || lng > maxLongitude) return false;
+
+        boolean inside = false;
+
+        for (int i = 0, j = latitudes.length - 1; i < latitudes.length; j = i++) {
+            if ((latitudes[i] > lat) != (latitudes[j] > lat)
+                    && lng < (longitudes[j] - longitudes[i]) * (lat - latitudes[i]) / (latitudes[j] - latitudes[i]) + longitudes[i])
+                inside = !inside;
+        }
+
+        return inside;
+    }
+
+    public double minLatitude() {
+        return minLatitude;
+    }
+
+    public double maxLatitude() {
+        return maxLatitude;
+    }
+
+    public double minLongitude() {
+        return minLongitude;
+    }
+
+    public double maxLongitude() {
+        return maxLongitude;
+    }
+}
@@ -0,0 +1,78 @@
+package com.back.standard.rateLimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (GCRA 방식)
+ * 버킷 상태를 "다음 토큰이 채워지는 이론상 시각(TAT)" 하나의 long으로 표현하고 CAS로만 갱신한다 (락 없음)
+ * TAT가 현재 시각 이전인 버킷은 가득 찬 새 버킷과 같으므로 언제 지워도 결과가 달라지지 않는다
+ * 키 개수가 상한에 닿으면 정리는 일정 간격에 한 번만 하고(요청마다 전체를 훑지 않도록), 그래도 가득 차 있으면 새 키는 거절한다
+ */
+public class TokenBucketRateLimiter {
+    private final long emissionIntervalNanos; // 토큰 1개가 채워지는 시간
+    private final long capacityNanos;         // 버킷 용량 * emissionIntervalNanos
+    private final int maxKeys;
+    private final Map<String, AtomicLong> theoreticalArrivalTimes = new ConcurrentHashMap<>();
+
+    // 키가 가득 찼을 때 요청 스레드에서 정리를 시도하는 최소 간격
+    private static final long FULL_EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+    private static final long NEVER = Long.MIN_VALUE;
+    private final AtomicLong lastFullEvictionNanos = new AtomicLong(NEVER);
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxKeys) {
+        if (capacity <= 0 || refillPerSecond <= 0 || maxKeys <= 0)
+            throw new IllegalArgumentException("용량, 충전 속도, 최대 키 개수는 0보다 커야 합니다.");
+
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.capacityNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 토큰 1개 사용을 시도한다
+     * @return 0이면 허용, 양수면 토큰이 생길 때까지 기다려야 하는 시간(나노초)
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong tat = theoreticalArrivalTimes.get(key);
+
+        if (tat == null) {
+            if (theoreticalArrivalTimes.size() >= maxKeys) {
+                evictIdleIfDue(nowNanos);
+
+                // 활성 키가 가득 차면 새 키는 거절한다 (키를 계속 바꿔 제한을 피하지 못하도록)
+                if (theoreticalArrivalTimes.size() >= maxKeys) return emissionIntervalNanos;
+            }
+
+            tat = theoreticalArrivalTimes.computeIfAbsent(key, _key -> new AtomicLong(nowNanos));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long overflowNanos = next - nowNanos - capacityNanos;
+
+            if (overflowNanos > 0) return overflowNanos;
+            if (tat.compareAndSet(current, next)) return 0;
+        }
+    }
+
+    // 간격 안에 이미 다른 스레드가 정리했다면 건너뛴다 (정리 비용은 키 개수에 비례)
+    private void evictIdleIfDue(long nowNanos) {
+        long last = lastFullEvictionNanos.get();
+        if (last != NEVER && nowNanos - last < FULL_EVICTION_INTERVAL_NANOS) return;
+        if (!lastFullEvictionNanos.compareAndSet(last, nowNanos)) return;
+
+        evictIdle(nowNanos);
+    }
+
+    // 다 채워진(더 이상 상태가 필요 없는) 버킷 제거
+    public void evictIdle(long nowNanos) {
+        theoreticalArrivalTimes.values().removeIf(tat -> tat.get() - nowNanos <= 0);
+    }
+
+    public int size() {
+        return theoreticalArrivalTimes.size();
+    }
+}
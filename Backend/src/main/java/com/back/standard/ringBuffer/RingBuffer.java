@@ -0,0 +1,53 @@
+package com.back.standard.ringBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크기가 고정된 순환 버퍼
+ * 가득 차면 가장 오래된 항목을 덮어쓴다 (최근 N개만 유지)
+ * @param <T> 항목 타입
+ */
+public class RingBuffer<T> {
+    private final Object[] items;
+    private int next; // 다음에 쓸 위치
+    private int size;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("버퍼 크기는 0보다 커야 합니다.");
+
+        this.items = new Object[capacity];
+    }
+
+    public synchronized void add(T item) {
+        items[next] = item;
+        next = (next + 1) % items.length;
+        if (size < items.length) size++;
+    }
+
+    // 오래된 순서
+    public synchronized List<T> toList() {
+        return latest(size);
+    }
+
+    // 최근 limit개 (오래된 순서)
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> latest(int limit) {
+        int count = Math.max(0, Math.min(limit, size));
+        List<T> result = new ArrayList<>(count);
+
+        for (int i = count; i > 0; i--)
+            result.add((T) items[Math.floorMod(next - i, items.length)]);
+
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+}
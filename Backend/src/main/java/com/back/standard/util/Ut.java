@@ -3,6 +3,7 @@ package com.back.standard.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.SneakyThrows;
@@ -10,8 +11,12 @@ import lombok.SneakyThrows;
 import javax.crypto.SecretKey;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
@@ -20,6 +25,11 @@ import java.util.Map;
 public class Ut {
     public static class jwt {
         public static String toString(String secret, int expireSeconds, Map<String, Object> body) {
+            return toString(Keys.hmacShaKeyFor(secret.getBytes()), expireSeconds, body);
+        }
+
+        // 키를 미리 만들어 둔 경우 (요청마다 키 생성 비용을 들이지 않음)
+        public static String toString(Key secretKey, int expireSeconds, Map<String, Object> body) {
             ClaimsBuilder claimsBuilder = Jwts.claims();
 
             for (Map.Entry<String, Object> entry : body.entrySet()) {
@@ -31,8 +41,6 @@ public class Ut {
             Date issuedAt = new Date();
             Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
 
-            Key secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
             String jwt = Jwts.builder()
                     .claims(claims)
                     .issuedAt(issuedAt)
@@ -43,6 +51,15 @@ public class Ut {
             return jwt;
         }
 
+        public static JwtParser parser(String secret) {
+            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+
+            return Jwts
+                    .parser()
+                    .verifyWith(secretKey)
+                    .build();
+        }
+
         public static boolean isValid(String secret, String jwtStr) {
             SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
 
@@ -60,13 +77,13 @@ public class Ut {
         }
 
         public static Map<String, Object> payload(String secret, String jwtStr) {
-            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+            return payload(parser(secret), jwtStr);
+        }
 
+        // 파서를 미리 만들어 둔 경우 (검증 키, 파서 생성 비용을 들이지 않음)
+        public static Map<String, Object> payload(JwtParser parser, String jwtStr) {
             try {
-                return (Map<String, Object>) Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
+                return (Map<String, Object>) parser
                         .parse(jwtStr)
                         .getPayload();
             } catch (Exception e) {
@@ -75,6 +92,21 @@ public class Ut {
         }
     }
 
+    public static class hash {
+        // SHA-256 해시를 URL-safe Base64 문자열로 반환
+        public static String sha256(String value) {
+            try {
+                byte[] digest = MessageDigest
+                        .getInstance("SHA-256")
+                        .digest(value.getBytes(StandardCharsets.UTF_8));
+
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     public static class json {
         public static ObjectMapper objectMapper;
 
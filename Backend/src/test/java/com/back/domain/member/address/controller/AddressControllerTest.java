@@ -1,5 +1,6 @@
 package com.back.domain.member.address.controller;
 
+import com.back.domain.member.address.repository.AddressRepository;
 import com.back.domain.member.address.service.AddressService;
 import com.back.domain.member.address.entity.Address;
 import com.back.domain.member.member.entity.Member;
@@ -30,6 +31,8 @@ class AddressControllerTest {
     @Autowired
     private AddressService addressService;
     @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
     private MemberService memberService;
     @Autowired
     private MockMvc mvc;
@@ -429,10 +432,10 @@ class AddressControllerTest {
                         address1.getId()
                 )));
 
-        // 주소1이 기본 주소로 설정되었는지 확인
-        assertThat(address1.getIsDefault()).isTrue();
+        // 주소1이 기본 주소로 설정되었는지 확인 (일괄 UPDATE로 변경되므로 다시 조회)
+        assertThat(addressRepository.findById(address1.getId()).get().getIsDefault()).isTrue();
         // 주소2는 기본 주소가 아니어야 함
-        assertThat(address2.getIsDefault()).isFalse();
+        assertThat(addressRepository.findById(address2.getId()).get().getIsDefault()).isFalse();
     }
 
     @Test
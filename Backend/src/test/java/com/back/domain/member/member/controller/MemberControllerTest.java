@@ -1,17 +1,21 @@
 package com.back.domain.member.member.controller;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberPurgeService;
 import com.back.domain.member.member.service.MemberService;
 import com.back.domain.order.dto.OrderItemParam;
 import com.back.domain.order.entity.Order;
+import com.back.domain.order.repository.OrderRepository;
 import com.back.domain.order.service.OrderService;
 import com.back.global.exception.ServiceException;
+import com.back.global.rateLimit.RateLimitProperties;
 import com.back.standard.util.Ut;
 import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -23,6 +27,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +47,14 @@ class MemberControllerTest {
     private MockMvc mvc;
     @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private RateLimitProperties rateLimitProperties;
+    @Autowired
+    private MemberPurgeService memberPurgeService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Value("${custom.jwt.secretKey}")
+    private String jwtSecretKey;
 
     @Test
     @DisplayName("회원 가입")
@@ -103,7 +116,8 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.data.member.name").value(member.getName()))
                 .andExpect(jsonPath("$.data.member.isAdmin").value(member.isAdmin()))
                 .andExpect(jsonPath("$.data.apiKey").value(member.getApiKey()))
-                .andExpect(jsonPath("$.data.accessToken").isNotEmpty());
+                .andExpect(jsonPath("$.data.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.data.refreshToken").isNotEmpty());
 
         resultActions.andExpect(
                 result -> {
@@ -116,6 +130,10 @@ class MemberControllerTest {
                     assertThat(accessTokenCookie.getValue()).isNotBlank();
                     assertThat(accessTokenCookie.getPath()).isEqualTo("/");
                     assertThat(accessTokenCookie.getAttribute("HttpOnly")).isEqualTo("true");
+
+                    Cookie refreshTokenCookie = result.getResponse().getCookie("refreshToken");
+                    assertThat(refreshTokenCookie.getValue()).isNotBlank();
+                    assertThat(refreshTokenCookie.getAttribute("HttpOnly")).isEqualTo("true");
                 }
         );
     }
@@ -168,6 +186,173 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.message").value("존재하지 않는 이메일입니다."));
     }
 
+    @Test
+    @DisplayName("로그인 - 같은 IP에서 너무 많이 시도하면 429")
+    void login_rateLimited() throws Exception {
+        int capacity = rateLimitProperties.rules()
+                .stream()
+                .filter(rule -> rule.path().equals("/api/members/login"))
+                .findFirst()
+                .get()
+                .capacity();
+
+        for (int i = 0; i <= capacity; i++) {
+            ResultActions resultActions = mvc
+                    .perform(
+                            post("/api/members/login")
+                                    .with(request -> {
+                                        request.setRemoteAddr("10.0.0.36");
+                                        return request;
+                                    })
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                                "email": "nobody@gmail.com",
+                                                "password": "12345678"
+                                            }
+                                            """.stripIndent())
+                    );
+
+            if (i < capacity) {
+                resultActions.andExpect(status().isUnauthorized());
+                continue;
+            }
+
+            resultActions
+                    .andDo(print())
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists("Retry-After"))
+                    .andExpect(jsonPath("$.code").value(429));
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 - 리프레시 토큰은 한 번만 사용할 수 있고, 재사용 시 계열 전체가 폐기됨")
+    void refresh() throws Exception {
+        String loginResponse = mvc
+                .perform(
+                        post("/api/members/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "email": "user1@gmail.com",
+                                            "password": "12345678"
+                                        }
+                                        """.stripIndent())
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String refreshToken = Ut.json.objectMapper.readTree(loginResponse).at("/data/refreshToken").asText();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/members/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "refreshToken": "%s"
+                                        }
+                                        """.formatted(refreshToken).stripIndent())
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(MemberController.class))
+                .andExpect(handler().methodName("refresh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("토큰이 갱신되었습니다."))
+                .andExpect(jsonPath("$.data.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.data.refreshToken").isNotEmpty());
+
+        String newRefreshToken = Ut.json.objectMapper
+                .readTree(resultActions.andReturn().getResponse().getContentAsString())
+                .at("/data/refreshToken")
+                .asText();
+
+        assertThat(newRefreshToken).isNotEqualTo(refreshToken);
+
+        // 이미 사용한 토큰 재사용 → 거부되고 새 토큰까지 폐기
+        mvc
+                .perform(
+                        post("/api/members/refresh")
+                                .cookie(new Cookie("refreshToken", refreshToken))
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."));
+
+        mvc
+                .perform(
+                        post("/api/members/refresh")
+                                .cookie(new Cookie("refreshToken", newRefreshToken))
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("유효하지 않은 리프레시 토큰입니다."));
+    }
+
+    @Test
+    @DisplayName("만료된 액세스 토큰은 API 키로 재발급하지 않고 401")
+    void expiredAccessToken() throws Exception {
+        Member member = memberService.findByEmail("user1@gmail.com").get();
+        String expiredAccessToken = Ut.jwt.toString(
+                jwtSecretKey,
+                -1,
+                Map.of("jti", "expired", "id", member.getId(), "email", member.getEmail(), "name", member.getName(), "isAdmin", false)
+        );
+
+        mvc
+                .perform(
+                        get("/api/members/info")
+                                .header("Authorization", "Bearer %s %s".formatted(member.getApiKey(), expiredAccessToken))
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(401))
+                .andExpect(jsonPath("$.message").value("액세스 토큰이 만료되었습니다. 토큰을 갱신해주세요."));
+    }
+
+    @Test
+    @DisplayName("만료된 액세스 토큰 쿠키가 남아 있어도 공개 API는 익명으로 통과")
+    void expiredAccessTokenOnPublicApi() throws Exception {
+        Member member = memberService.findByEmail("user1@gmail.com").get();
+        String expiredAccessToken = Ut.jwt.toString(
+                jwtSecretKey,
+                -1,
+                Map.of("jti", "expired", "id", member.getId(), "email", member.getEmail(), "name", member.getName(), "isAdmin", false)
+        );
+
+        mvc
+                .perform(
+                        get("/api/products/1")
+                                .cookie(new Cookie("apiKey", member.getApiKey()), new Cookie("accessToken", expiredAccessToken))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200));
+
+        mvc
+                .perform(
+                        get("/api/products")
+                                .cookie(new Cookie("apiKey", "invalid-api-key"))
+                )
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        // 인증이 필요한 API는 그대로 401
+        mvc
+                .perform(
+                        get("/api/members/info")
+                                .cookie(new Cookie("apiKey", member.getApiKey()), new Cookie("accessToken", expiredAccessToken))
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("액세스 토큰이 만료되었습니다. 토큰을 갱신해주세요."));
+    }
+
     @Test
     @DisplayName("로그 아웃")
     void logout() throws Exception {
@@ -198,6 +383,102 @@ class MemberControllerTest {
                 });
     }
 
+    @Test
+    @DisplayName("로그 아웃 - 로그아웃한 액세스 토큰은 더 이상 사용할 수 없음")
+    void logout_revokesAccessToken() throws Exception {
+        Member member = memberService.findByEmail("user1@gmail.com").get();
+        String accessToken = memberService.genAccessToken(member);
+
+        mvc
+                .perform(
+                        delete("/api/members/logout")
+                                .header("Authorization", "Bearer %s %s".formatted(member.getApiKey(), accessToken))
+                )
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/members/info")
+                                .header("Authorization", "Bearer %s %s".formatted(member.getApiKey(), accessToken))
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(401))
+                .andExpect(jsonPath("$.message").value("로그아웃된 토큰입니다."));
+    }
+
+    @Test
+    @DisplayName("로그 아웃 - 같은 토큰으로 다시 로그아웃해도(중복 클릭, 재시도) 정상 처리")
+    void logout_twice() throws Exception {
+        Member member = memberService.findByEmail("user1@gmail.com").get();
+        String accessToken = memberService.genAccessToken(member);
+
+        for (int i = 0; i < 2; i++) {
+            mvc
+                    .perform(
+                            delete("/api/members/logout")
+                                    .header("Authorization", "Bearer %s %s".formatted(member.getApiKey(), accessToken))
+                    )
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value(200));
+        }
+
+        mvc
+                .perform(
+                        get("/api/members/info")
+                                .header("Authorization", "Bearer %s %s".formatted(member.getApiKey(), accessToken))
+                )
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("로그아웃된 토큰입니다."));
+    }
+
+    @Test
+    @DisplayName("이메일 / 닉네임 사용 가능 여부 확인")
+    void availability() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/members/availability")
+                                .param("email", "user1@gmail.com")
+                                .param("name", "새유저")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(MemberController.class))
+                .andExpect(handler().methodName("availability"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.emailAvailable").value(false))
+                .andExpect(jsonPath("$.data.nameAvailable").value(true));
+
+        // 가입 직후에는 바로 사용 중으로 표시
+        memberService.join("newuser@gmail.com", "12345678", "새유저");
+
+        mvc
+                .perform(
+                        get("/api/members/availability")
+                                .param("name", "새유저")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nameAvailable").value(false))
+                .andExpect(jsonPath("$.data.emailAvailable").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("이메일 / 닉네임 사용 가능 여부 확인 - 확인할 값 없음")
+    void availability_empty() throws Exception {
+        mvc
+                .perform(
+                        get("/api/members/availability")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value("확인할 이메일 또는 닉네임을 입력해주세요."));
+    }
+
     @Test
     @DisplayName("회원 탈퇴")
     @WithUserDetails("user1@gmail.com")
@@ -220,6 +501,67 @@ class MemberControllerTest {
                 .isEmpty();
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 - 즉시 비활성화 후 백그라운드 작업에서 주문, 주소 정리")
+    void withdraw_purge() throws Exception {
+        Member member = memberService.findByEmail("user1@gmail.com").get();
+        Long memberId = member.getId();
+        List<Long> orderIds = member.getOrders().stream().map(Order::getId).toList();
+        assertThat(orderIds).isNotEmpty();
+
+        memberService.withdraw(member);
+
+        // 익명화된 채로 남아 있고, 주문은 아직 그대로
+        Member withdrawn = memberService.findById(memberId).get();
+        assertThat(withdrawn.isWithdrawn()).isTrue();
+        assertThat(withdrawn.getEmail()).isNotEqualTo("user1@gmail.com");
+        assertThat(orderRepository.findById(orderIds.get(0))).isPresent();
+
+        memberPurgeService.purgeWithdrawnMembers();
+
+        assertThat(memberService.findById(memberId)).isEmpty();
+        orderIds.forEach(orderId -> assertThat(orderRepository.findById(orderId)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - 탈퇴 전에 발급된 액세스 토큰으로도 인증 불가")
+    void withdraw_revokesAccessTokens() throws Exception {
+        Member member = memberService.findByEmail("user2@gmail.com").get();
+        String authorization = "Bearer %s %s".formatted(member.getApiKey(), memberService.genAccessToken(member));
+        // 다른 기기에서 로그인해 둔 세션
+        String otherSession = "Bearer %s %s".formatted(member.getApiKey(), memberService.genAccessToken(member));
+
+        mvc
+                .perform(
+                        delete("/api/members/withdraw")
+                                .header("Authorization", authorization)
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/members/info")
+                                .header("Authorization", otherSession)
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("탈퇴한 회원입니다."));
+
+        mvc
+                .perform(
+                        post("/api/orders")
+                                .header("Authorization", otherSession)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "customerAddress": "서울시 강남구 역삼동",
+                                            "orderItems": [{"productId": 1, "count": 1}]
+                                        }
+                                        """)
+                )
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("회원 탈퇴 - 어드민 계정으로 시도")
     @WithUserDetails("system@gmail.com")
@@ -279,6 +621,32 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.data.isAdmin").value(member.isAdmin()));
     }
 
+    @Test
+    @DisplayName("회원 정보 조회 - apiKey 인증, 탈퇴 후에는 캐시된 인증 정보도 무효화")
+    void getMemberInfo_apiKeyAfterWithdraw() throws Exception {
+        mvc
+                .perform(
+                        get("/api/members/info")
+                                .header("Authorization", "Bearer user2@gmail.com")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("user2@gmail.com"));
+
+        Member member = memberService.findByEmail("user2@gmail.com").get();
+        memberService.withdraw(member);
+
+        mvc
+                .perform(
+                        get("/api/members/info")
+                                .header("Authorization", "Bearer user2@gmail.com")
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(401))
+                .andExpect(jsonPath("$.message").value("API 키가 유효하지 않습니다."));
+    }
+
     @Test
     @DisplayName("회원 정보 수정")
     @WithUserDetails("user1@gmail.com")
@@ -7,6 +7,7 @@ import com.back.domain.order.entity.Order;
 import com.back.domain.order.entity.OrderStatus;
 import com.back.domain.order.service.OrderService;
 import com.back.global.exception.ServiceException;
+import com.back.global.trace.SqlStatementCounter;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,9 +46,16 @@ public class AdmOrderControllerTest {
     @DisplayName("주문 목록 조회 - 관리자")
     @WithUserDetails("admin@gmail.com")
     void t1() throws Exception {
-        ResultActions resultActions = mockMvc
-                .perform(get("/api/adm/orders"))
-                .andDo(print());
+        ResultActions resultActions;
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            resultActions = mockMvc
+                    .perform(get("/api/adm/orders"))
+                    .andDo(print());
+
+            // 주문 수와 관계없이 한 번에 조회 (N+1 방지)
+            assertThat(scope.count()).isLessThanOrEqualTo(1);
+        }
 
         List<Order> orders = orderService.getAllOrders();
 
@@ -329,4 +337,22 @@ public class AdmOrderControllerTest {
                 .andExpect(jsonPath("$.message").value("유효하지 않은 주문 상태입니다."))
                 .andExpect(jsonPath("$.data").doesNotExist());
     }
+
+    @Test
+    @DisplayName("주문 목록 조회 - 탈퇴 후 정리 대기 중인 회원의 주문은 제외")
+    @WithUserDetails("admin@gmail.com")
+    void t10() throws Exception {
+        Member user2 = memberService.findByEmail("user2@gmail.com").get();
+        orderService.createOrder(user2, "서울시 강남구 역삼동", List.of(new OrderItemParam(1L, 1)));
+
+        Member user1 = memberService.findByEmail("user1@gmail.com").get();
+        memberService.withdraw(user1);
+
+        mockMvc
+                .perform(get("/api/adm/orders"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].customerEmail").value("user2@gmail.com"));
+    }
 }
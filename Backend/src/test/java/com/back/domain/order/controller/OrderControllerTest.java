@@ -2,6 +2,14 @@ package com.back.domain.order.controller;
 
 import com.back.domain.order.entity.Order;
 import com.back.domain.order.service.OrderService;
+import com.back.domain.product.entity.Product;
+import com.back.domain.product.repository.ProductRepository;
+import com.back.domain.product.service.ProductCatalog;
+import com.back.domain.product.service.ProductService;
+import jakarta.persistence.EntityManager;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -16,6 +24,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +45,14 @@ public class OrderControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private OrderService orderService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductCatalog productCatalog;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     @WithUserDetails("user1@gmail.com")
@@ -61,7 +83,9 @@ public class OrderControllerTest {
                 .andExpect(jsonPath("$.data.id").value(order.getId()))
                 .andExpect(jsonPath("$.data.customerEmail").value(order.getCustomer().getEmail()))
                 .andExpect(jsonPath("$.data.customerAddress").value(order.getCustomerAddress()))
-                .andExpect(jsonPath("$.data.state").value(order.getStatus().name()));
+                .andExpect(jsonPath("$.data.state").value(order.getStatus().name()))
+                .andExpect(jsonPath("$.data.deliveryStore").value("시청점"))
+                .andExpect(jsonPath("$.data.estimatedDeliveryMinutes").value(order.getEstimatedDeliveryMinutes()));
     }
 
     @Test
@@ -92,10 +116,10 @@ public class OrderControllerTest {
 
     @Test
     @WithUserDetails("user1@gmail.com")
-    @DisplayName("3. 배송지 변경")
+    @DisplayName("3. 배송지 변경 - 담당 매장, 예상 시간도 새 주소 기준으로 변경")
     void t3() throws Exception {
         long targetOrder = 1L;
-        String newAddress = "미국";
+        String newAddress = "서울특별시 중구 을지로 1";
 
         ResultActions resultActions = mockMvc
                 .perform(put("/api/orders/" + targetOrder + "/address")
@@ -114,6 +138,9 @@ public class OrderControllerTest {
                 .andExpect(jsonPath("$.code").value(200))
                 .andExpect(jsonPath("$.message").value("%s번 주문 주소가 변경되었습니다.".formatted(targetOrder)))
                 .andExpect(jsonPath("$.data").value("%s".formatted(newAddress)));
+
+        Order order = orderService.getOrderEntity(targetOrder);
+        assertThat(order.getDeliveryStore()).isEqualTo("시청점"); // 강남구 -> 중구
     }
 
     @Test
@@ -290,4 +317,292 @@ public class OrderControllerTest {
                 .andExpect(jsonPath("$.code").value(409))
                 .andExpect(jsonPath("$.message").value("이미 취소된 주문입니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("12. 주문 견적 조회")
+    void t12() throws Exception {
+        ResultActions resultActions = mockMvc
+                .perform(post("/api/orders/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "orderItems": [
+                                      { "productId": 1, "count": 2 },
+                                      { "productId": 2, "count": 1 }
+                                    ]
+                                }
+                                """))
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(OrderController.class))
+                .andExpect(handler().methodName("quoteOrder"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("주문 견적이 계산되었습니다."))
+                .andExpect(jsonPath("$.data.orderItems.length()").value(2))
+                .andExpect(jsonPath("$.data.orderItems[0].price").value(3500))
+                .andExpect(jsonPath("$.data.orderItems[0].linePrice").value(7000))
+                .andExpect(jsonPath("$.data.orderItems[1].linePrice").value(4000))
+                .andExpect(jsonPath("$.data.totalPrice").value(11000))
+                .andExpect(jsonPath("$.data.unorderableProductIds").isEmpty());
+    }
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("13. 주문 견적 조회 - 없는 상품 포함")
+    void t13() throws Exception {
+        ResultActions resultActions = mockMvc
+                .perform(post("/api/orders/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "orderItems": [
+                                      { "productId": 1, "count": 1 },
+                                      { "productId": 999, "count": 1 }
+                                    ]
+                                }
+                                """))
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(OrderController.class))
+                .andExpect(handler().methodName("quoteOrder"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("주문 불가능한 상품이 포함되어 있습니다."))
+                .andExpect(jsonPath("$.data.totalPrice").value(3500))
+                .andExpect(jsonPath("$.data.orderItems[1].orderable").value(false))
+                .andExpect(jsonPath("$.data.unorderableProductIds[0]").value(999));
+    }
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("14. 주문 생성 실패 - 배달 가능 지역이 아닌 주소, 위치를 알 수 없거나 모호한 주소")
+    void t14() throws Exception {
+        String[][] cases = {
+                {"부산광역시 해운대구", "배달 가능 지역이 아닙니다."},
+                {"부산 강서구", "배달 가능 지역이 아닙니다."}, // 서울 강서구가 아님
+                {"부산광역시 중구 중앙대로 1", "배달 가능 지역이 아닙니다."}, // 서울 중구가 아님
+                {"인천 중구", "배달 가능 지역이 아닙니다."},
+                {"중구 을지로 1", "주소의 위치를 확인할 수 없습니다."}, // 어느 도시의 중구인지 알 수 없음
+                {"서울 부산", "주소의 위치를 확인할 수 없습니다."},
+                {"서울특별시 어딘가", "주소의 위치를 확인할 수 없습니다."}, // 도시 중심 좌표로 대신하지 않음
+                {"미국", "주소의 위치를 확인할 수 없습니다."}
+        };
+
+        for (String[] testCase : cases) {
+            ResultActions resultActions = mockMvc
+                    .perform(post("/api/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "customerAddress": "%s",
+                                        "orderItems": [
+                                          { "productId": 1, "count": 1 }
+                                        ]
+                                    }
+                                    """.formatted(testCase[0])))
+                    .andDo(print());
+
+            resultActions
+                    .andExpect(handler().handlerType(OrderController.class))
+                    .andExpect(handler().methodName("createOrder"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400))
+                    .andExpect(jsonPath("$.message").value(testCase[1]));
+        }
+    }
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("15. 주문 생성 - JFR 이벤트에 상품 수, 요청 ID 기록")
+    void t15() throws Exception {
+        Path recordingFile = Files.createTempFile("order-create", ".jfr");
+        ResultActions resultActions;
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.back.OrderCreate");
+            recording.start();
+
+            resultActions = mockMvc
+                    .perform(post("/api/orders")
+                            .header("X-Request-Id", "test-request-15")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "customerAddress": "서울역",
+                                        "orderItems": [
+                                          { "productId": 1, "count": 2 },
+                                          { "productId": 2, "count": 1 }
+                                        ]
+                                    }
+                                    """))
+                    .andDo(print());
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        resultActions
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Request-Id", "test-request-15"));
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.deleteIfExists(recordingFile);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("itemCount")).isEqualTo(2);
+        assertThat(events.get(0).getBoolean("success")).isTrue();
+        assertThat(events.get(0).getString("requestId")).isEqualTo("test-request-15");
+    }
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("16. 주문 생성 - 도시, 구를 함께 쓴 주소")
+    void t16() throws Exception {
+        mockMvc
+                .perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "customerAddress": "서울특별시 중구 을지로 1",
+                                    "orderItems": [
+                                      { "productId": 1, "count": 1 }
+                                    ]
+                                }
+                                """))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.deliveryStore").value("시청점"));
+    }
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("17. 주문 견적 조회, 주문 생성 실패 - 수량이 0 이하이거나 너무 큰 경우")
+    void t17() throws Exception {
+        for (String count : new String[]{"0", "-1", "2147483647"}) {
+            mockMvc
+                    .perform(post("/api/orders/quote")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "orderItems": [
+                                          { "productId": 1, "count": %s }
+                                        ]
+                                    }
+                                    """.formatted(count)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400));
+
+            mockMvc
+                    .perform(post("/api/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "customerAddress": "서울역",
+                                        "orderItems": [
+                                          { "productId": 1, "count": %s }
+                                        ]
+                                    }
+                                    """.formatted(count)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400));
+        }
+
+        // 최대 수량
+        mockMvc
+                .perform(post("/api/orders/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "orderItems": [
+                                      { "productId": 1, "count": 999 },
+                                      { "productId": 2, "count": 999 }
+                                    ]
+                                }
+                                """))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderItems[0].linePrice").value(3500 * 999))
+                .andExpect(jsonPath("$.data.totalPrice").value((3500 + 4000) * 999));
+    }
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("18. 주문 생성 실패 - 카탈로그 스냅샷에 남아 있지만 삭제된 상품, 카탈로그 갱신 후")
+    void t18() throws Exception {
+        // 테스트 트랜잭션은 커밋되지 않아 커밋 후 갱신 이벤트가 오지 않으므로 직접 갱신
+        Product product = productService.create("삭제될 상품", 1000, "", "커피", "설명", true);
+        productCatalog.reload();
+        assertThat(productCatalog.snapshot().indexOf(product.getId())).isNotNegative();
+
+        productService.delete(product);
+        productRepository.flush();
+
+        String content = """
+                {
+                    "customerAddress": "서울역",
+                    "orderItems": [
+                      { "productId": %d, "count": 1 }
+                    ]
+                }
+                """.formatted(product.getId());
+
+        // 스냅샷 교체 전: FK 제약 조건에서 걸러짐
+        mockMvc
+                .perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("존재하지 않는 상품입니다."));
+
+        // 실패한 주문이 남긴 영속성 컨텍스트 정리 (실제 요청은 트랜잭션이 요청마다 따로라 필요 없음)
+        entityManager.clear();
+
+        // 스냅샷 교체 후: 카탈로그에서 바로 걸러짐
+        productCatalog.reload();
+        assertThat(productCatalog.snapshot().indexOf(product.getId())).isNegative();
+
+        mockMvc
+                .perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("존재하지 않는 상품입니다."));
+    }
+
+    @Test
+    @WithUserDetails("user1@gmail.com")
+    @DisplayName("19. 배송지 변경 - 배달 가능 지역 밖으로는 변경 불가")
+    void t19() throws Exception {
+        long targetOrder = 1L;
+        String oldAddress = orderService.getOrderEntity(targetOrder).getCustomerAddress();
+
+        ResultActions resultActions = mockMvc
+                .perform(put("/api/orders/" + targetOrder + "/address")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "newAddress": "부산광역시 해운대구"
+                                }
+                                """))
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(OrderController.class))
+                .andExpect(handler().methodName("updateOrderAddress"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value("배달 가능 지역이 아닙니다."));
+
+        Order order = orderService.getOrderEntity(targetOrder);
+        assertThat(order.getCustomerAddress()).isEqualTo(oldAddress);
+        assertThat(order.getDeliveryStore()).isEqualTo("강남점");
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -297,4 +298,82 @@ public class AdmProductControllerTest {
                 .andExpect(jsonPath("$.message").value("%d번 상품이 주문 불가능하게 변경되었습니다.".formatted(productId)));
     }
 
+    private ResultActions bulkOrderableRequest(String json) throws Exception {
+        return mvc
+                .perform(
+                        put("/api/adm/products/orderable")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json)
+                )
+                .andDo(print());
+    }
+
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    @Test
+    @DisplayName("주문 가능 불가능 일괄 변경 - ID 목록")
+    void bulkOrderable1() throws Exception {
+
+        ResultActions resultActions = bulkOrderableRequest("""
+                {
+                    "ids" : [1, 2],
+                    "orderable" : false
+                }
+                """);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(AdmProductController.class))
+                .andExpect(handler().methodName("bulkOrderable"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("2개 상품이 주문 불가능하게 변경되었습니다."))
+                .andExpect(jsonPath("$.data.updatedCount").value(2))
+                .andExpect(jsonPath("$.data.orderable").value(false));
+
+        assertThat(productService.getItem(1).get().isOrderable()).isFalse();
+        assertThat(productService.getItem(2).get().isOrderable()).isFalse();
+        assertThat(productService.getItem(3).get().isOrderable()).isTrue();
+    }
+
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    @Test
+    @DisplayName("주문 가능 불가능 일괄 변경 - 카테고리")
+    void bulkOrderable2() throws Exception {
+
+        ResultActions resultActions = bulkOrderableRequest("""
+                {
+                    "category" : "아이스 커피",
+                    "orderable" : false
+                }
+                """);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("bulkOrderable"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("2개 상품이 주문 불가능하게 변경되었습니다."))
+                .andExpect(jsonPath("$.data.updatedCount").value(2));
+
+        assertThat(productService.getItem(1).get().isOrderable()).isFalse();
+        assertThat(productService.getItem(2).get().isOrderable()).isTrue();
+        assertThat(productService.getItem(3).get().isOrderable()).isFalse();
+    }
+
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    @Test
+    @DisplayName("주문 가능 불가능 일괄 변경 - 대상 미지정")
+    void bulkOrderable3() throws Exception {
+
+        ResultActions resultActions = bulkOrderableRequest("""
+                {
+                    "orderable" : false
+                }
+                """);
+
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(handler().methodName("bulkOrderable"))
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value("상품 ID 목록과 카테고리 중 하나만 지정해야 합니다."));
+    }
+
 }
@@ -14,6 +14,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -175,4 +177,99 @@ public class ProductControllerTest {
         checkProduct(resultActions, product);
 
     }
+
+    @Test
+    @DisplayName("상품 다건 조회 - 요청한 순서대로, 없는 상품은 제외")
+    void itemsByIds1() throws Exception {
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/products?ids=3,1,999")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("getItemsByIds"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("2개 상품을 조회하였습니다."))
+                .andExpect(jsonPath("$.data.length()").value(2));
+
+        Product product3 = productService.getItem(3).get();
+        Product product1 = productService.getItem(1).get();
+
+        resultActions
+                .andExpect(jsonPath("$.data[0].id").value(product3.getId()))
+                .andExpect(jsonPath("$.data[0].price").value(product3.getPrice()))
+                .andExpect(jsonPath("$.data[0].orderable").value(product3.isOrderable()))
+                .andExpect(jsonPath("$.data[1].id").value(product1.getId()))
+                .andExpect(jsonPath("$.data[1].price").value(product1.getPrice()))
+                .andExpect(jsonPath("$.data[1].orderable").value(product1.isOrderable()));
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 - 최대 개수 초과")
+    void itemsByIds2() throws Exception {
+
+        String ids = LongStream.rangeClosed(1, 51)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/products?ids=" + ids)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+    }
+
+    @Test
+    @DisplayName("인기 상품 조회 - 최근 24시간, 취소된 주문 제외")
+    void bestSellers1() throws Exception {
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/products/best-sellers?period=DAY&limit=1")
+                )
+                .andDo(print());
+
+        Product product = productService.getItem(1).get();
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("getBestSellers"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].rank").value(1))
+                .andExpect(jsonPath("$.data[0].productId").value(product.getId()))
+                .andExpect(jsonPath("$.data[0].productName").value(product.getProductName()))
+                .andExpect(jsonPath("$.data[0].salesCount").value(6)); // 테스트 주문 2개 + 4개, 취소된 1개 제외
+    }
+
+    @Test
+    @DisplayName("함께 구매한 상품 추천")
+    void recommendations1() throws Exception {
+
+        long productId = 2;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/products/%d/recommendations".formatted(productId))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("getRecommendations"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].productId").value(1)) // 테스트 주문에서 2번 상품은 1번 상품과 함께 주문됨
+                .andExpect(jsonPath("$.data[0].coPurchaseCount").value(1));
+    }
 }
@@ -0,0 +1,88 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.OrderItemParam;
+import com.back.domain.order.dto.OrderItemSales;
+import com.back.domain.order.event.OrderCanceledEvent;
+import com.back.domain.order.event.OrderPlacedEvent;
+import com.back.domain.order.repository.OrderRepository;
+import com.back.domain.product.dto.BestSellerDto;
+import com.back.domain.product.entity.Product;
+import com.back.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BestSellerServiceTest {
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final BestSellerService bestSellerService = new BestSellerService(orderRepository, productRepository);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        List<Product> products = LongStream.rangeClosed(1, 3)
+                .<Product>mapToObj(id -> Product.builder()
+                        .id(id)
+                        .productName("상품" + id)
+                        .price(4500)
+                        .build())
+                .toList();
+
+        when(productRepository.findAllById(any())).thenReturn(products);
+    }
+
+    @Test
+    @DisplayName("재구성하는 동안 커밋된 주문도 순위에 반영")
+    void t1() {
+        // DB를 조회하는 사이에 다른 주문이 커밋됨
+        when(orderRepository.findItemSalesSince(any())).thenAnswer(invocation -> {
+            bestSellerService.onOrderPlaced(placed(3L, 5));
+            return List.of(new OrderItemSales(1L, 2, now));
+        });
+
+        bestSellerService.rebuild();
+
+        assertThat(bestSellerService.getBestSellers(BestSellerService.Period.DAY, 10))
+                .extracting(BestSellerDto::productId, BestSellerDto::salesCount)
+                .containsExactly(tuple(3L, 5L), tuple(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("취소로 판매량이 0이 된 상품은 순위에서 빠지고, 다시 팔리면 0부터 집계")
+    void t2() {
+        when(orderRepository.findItemSalesSince(any())).thenReturn(List.of(new OrderItemSales(1L, 2, now)));
+        bestSellerService.rebuild();
+
+        bestSellerService.onOrderPlaced(placed(3L, 5));
+        bestSellerService.onOrderCanceled(canceled(3L, 5));
+        bestSellerService.prune();
+
+        assertThat(bestSellerService.getBestSellers(BestSellerService.Period.DAY, 10))
+                .extracting(BestSellerDto::productId)
+                .containsExactly(1L);
+
+        bestSellerService.onOrderPlaced(placed(3L, 1));
+
+        assertThat(bestSellerService.getBestSellers(BestSellerService.Period.DAY, 10))
+                .extracting(BestSellerDto::productId, BestSellerDto::salesCount)
+                .containsExactly(tuple(1L, 2L), tuple(3L, 1L));
+    }
+
+    private OrderPlacedEvent placed(long productId, int count) {
+        return new OrderPlacedEvent(100L, now, List.of(new OrderItemParam(productId, count)));
+    }
+
+    private OrderCanceledEvent canceled(long productId, int count) {
+        return new OrderCanceledEvent(100L, now, List.of(new OrderItemParam(productId, count)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.OrderItemPair;
+import com.back.domain.order.dto.OrderItemParam;
+import com.back.domain.order.event.OrderCanceledEvent;
+import com.back.domain.order.event.OrderPlacedEvent;
+import com.back.domain.order.repository.OrderRepository;
+import com.back.domain.product.dto.ProductCatalogEntry;
+import com.back.domain.product.dto.RecommendationDto;
+import com.back.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RecommendationServiceTest {
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductCatalog productCatalog = new ProductCatalog(productRepository);
+    private final RecommendationService recommendationService = new RecommendationService(orderRepository, productCatalog);
+
+    // 1, 3번 상품을 함께 담은 주문
+    private final List<OrderItemParam> orderItems = List.of(new OrderItemParam(1L, 1), new OrderItemParam(3L, 1));
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findAllCatalogEntries()).thenReturn(List.of(
+                new ProductCatalogEntry(1L, 4500, true),
+                new ProductCatalogEntry(2L, 4500, true),
+                new ProductCatalogEntry(3L, 4500, true)
+        ));
+        productCatalog.reload();
+    }
+
+    @Test
+    @DisplayName("재구성하는 동안 커밋된 주문도 추천에 반영")
+    void t1() {
+        // DB를 조회하는 사이에 다른 주문이 커밋됨
+        when(orderRepository.findAllItemPairs()).thenAnswer(invocation -> {
+            recommendationService.onOrderPlaced(new OrderPlacedEvent(100L, LocalDateTime.now(), orderItems));
+            return List.of(new OrderItemPair(1L, 1L), new OrderItemPair(1L, 2L));
+        });
+
+        recommendationService.rebuild();
+
+        assertThat(recommendationService.getRecommendations(3L, 10))
+                .extracting(RecommendationDto::productId, RecommendationDto::coPurchaseCount)
+                .containsExactly(tuple(1L, 1L));
+        assertThat(recommendationService.getRecommendations(1L, 10))
+                .extracting(RecommendationDto::productId)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("취소로 동시 구매 횟수가 0이 된 이웃은 사라지고, 다시 함께 팔리면 0부터 집계")
+    void t2() {
+        when(orderRepository.findAllItemPairs()).thenReturn(List.of(new OrderItemPair(1L, 1L), new OrderItemPair(1L, 2L)));
+        recommendationService.rebuild();
+
+        recommendationService.onOrderPlaced(new OrderPlacedEvent(100L, LocalDateTime.now(), orderItems));
+        recommendationService.onOrderCanceled(new OrderCanceledEvent(100L, LocalDateTime.now(), orderItems));
+
+        assertThat(recommendationService.getRecommendations(3L, 10)).isEmpty();
+        assertThat(recommendationService.getRecommendations(1L, 10))
+                .extracting(RecommendationDto::productId)
+                .containsExactly(2L);
+
+        // 없는 쌍을 취소해도 음수로 남지 않음
+        recommendationService.onOrderCanceled(new OrderCanceledEvent(101L, LocalDateTime.now(), orderItems));
+        recommendationService.onOrderPlaced(new OrderPlacedEvent(102L, LocalDateTime.now(), orderItems));
+
+        assertThat(recommendationService.getRecommendations(3L, 10))
+                .extracting(RecommendationDto::productId, RecommendationDto::coPurchaseCount)
+                .containsExactly(tuple(1L, 1L));
+    }
+}
@@ -0,0 +1,205 @@
+package com.back.global.metrics;
+
+import com.back.global.trace.SlowQueryLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class AdmMetricsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+    @Autowired
+    private SaturationMonitor saturationMonitor;
+
+    @Test
+    @DisplayName("엔드포인트별 응답 시간 조회 - 경로 패턴, 응답 코드별로 집계")
+    @WithUserDetails("admin@gmail.com")
+    void t1() throws Exception {
+        mockMvc.perform(delete("/api/adm/metrics/endpoints"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/products/1"));
+        mockMvc.perform(get("/api/products/2"));
+        mockMvc.perform(get("/api/adm/orders/999999/detail"));
+
+        ResultActions resultActions = mockMvc
+                .perform(get("/api/adm/metrics/endpoints"))
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(AdmMetricsController.class))
+                .andExpect(handler().methodName("getEndpointMetrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.windowStartedAt").exists())
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/products/{id}' && @.status == 200)].count").value(2))
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/products/{id}')].p99Millis").isNotEmpty())
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/adm/orders/{orderId}/detail')].error").value(true))
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/products/{id}' && @.allocatedBytesP50 > 0)]").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 지표 조회 - 초당 할당량 순 정렬")
+    @WithUserDetails("admin@gmail.com")
+    void t4() throws Exception {
+        mockMvc.perform(delete("/api/adm/metrics/endpoints"));
+        mockMvc.perform(get("/api/products/1"));
+
+        mockMvc
+                .perform(get("/api/adm/metrics/endpoints").param("sort", "ALLOCATION"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.endpoints[0].allocatedBytesPerSecond").isNumber())
+                .andExpect(jsonPath("$.data.endpoints[0].allocatedBytesMean").isNumber());
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 응답 시간 조회 - 일반 사용자는 접근 불가")
+    @WithUserDetails("user1@gmail.com")
+    void t2() throws Exception {
+        mockMvc.perform(get("/api/adm/metrics/endpoints"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("느린 SQL 조회 - 형태별 집계, 바인딩 값 포함")
+    @WithUserDetails("admin@gmail.com")
+    void t3() throws Exception {
+        mockMvc.perform(delete("/api/adm/metrics/slow-queries"))
+                .andExpect(status().isOk());
+
+        // 모든 SQL을 느린 SQL로 취급
+        ReflectionTestUtils.setField(slowQueryLog, "thresholdMillis", 0L);
+
+        try {
+            mockMvc.perform(get("/api/products/2"));
+        } finally {
+            ReflectionTestUtils.setField(slowQueryLog, "thresholdMillis", 200L);
+        }
+
+        // 집계는 기록 스레드가 처리하므로 반영될 때까지 기다림
+        long deadline = System.currentTimeMillis() + 5000;
+        while (slowQueryLog.top(1).isEmpty() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+
+        ResultActions resultActions = mockMvc
+                .perform(get("/api/adm/metrics/slow-queries"))
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(AdmMetricsController.class))
+                .andExpect(handler().methodName("getSlowQueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.queries[0].shape").value(containsString("from product")))
+                .andExpect(jsonPath("$.data.queries[0].count").value(1))
+                .andExpect(jsonPath("$.data.queries[0].maxParams").value("[2]"));
+    }
+
+    @Test
+    @DisplayName("런타임 포화도 조회 - 커넥션 풀, Executor, GC 샘플")
+    @WithUserDetails("admin@gmail.com")
+    void t5() throws Exception {
+        saturationMonitor.sample();
+        saturationMonitor.sample();
+
+        ResultActions resultActions = mockMvc
+                .perform(get("/api/adm/metrics/saturation").param("minutes", "5"))
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(AdmMetricsController.class))
+                .andExpect(handler().methodName("getSaturation"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.samples.length()").value(greaterThanOrEqualTo(2)))
+                .andExpect(jsonPath("$.data.latest.connectionPool.max").isNumber())
+                .andExpect(jsonPath("$.data.latest.connectionPool.active").isNumber())
+                .andExpect(jsonPath("$.data.latest.executors.passwordHashing.queued").isNumber())
+                .andExpect(jsonPath("$.data.latest.gc.heapUsedBytes").isNumber());
+    }
+
+    @Test
+    @DisplayName("Micrometer 지표 조회 - 관리자 API 경로에서 비밀번호 해싱 타이머 조회")
+    @WithUserDetails("admin@gmail.com")
+    void t6() throws Exception {
+        mockMvc
+                .perform(get("/api/adm/actuator/metrics/password.hashing").param("tag", "operation:encode"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("password.hashing"))
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").isNotEmpty());
+
+        mockMvc
+                .perform(get("/api/adm/actuator/metrics/executor.queued").param("tag", "name:passwordHashing"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Micrometer 지표 조회 - 일반 사용자는 접근 불가")
+    @WithUserDetails("user1@gmail.com")
+    void t7() throws Exception {
+        mockMvc.perform(get("/api/adm/actuator/metrics"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 응답 시간 조회 - 예외 처리기, 요청 검증에서 거절된 요청도 실제 응답 코드로 집계")
+    @WithUserDetails("admin@gmail.com")
+    void t8() throws Exception {
+        mockMvc.perform(delete("/api/adm/metrics/endpoints"));
+
+        // 메서드 검증(@Size) 실패 -> 예외 처리기에서 400
+        String ids = LongStream.rangeClosed(1, 51).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        mockMvc.perform(get("/api/products").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        // 요청 본문 검증(@Positive) 실패 -> 컨트롤러 메서드에 도달하지 않고 400
+        mockMvc.perform(post("/api/orders/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "orderItems": [{"productId": 1, "count": 0}]
+                                }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc
+                .perform(get("/api/adm/metrics/endpoints"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/products' && @.status == 400)].count").value(1))
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/products' && @.status == 500)]").isEmpty())
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/orders/quote' && @.status == 400)].count").value(1))
+                // 응답 시간과 할당량이 같은 항목에 기록됨
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/orders/quote' && @.status == 400 && @.allocatedBytesP50 > 0)]").isNotEmpty())
+                .andExpect(jsonPath("$.data.endpoints[?(@.path == '/api/products' && @.status == 400 && @.allocatedBytesP50 > 0)]").isNotEmpty());
+    }
+}
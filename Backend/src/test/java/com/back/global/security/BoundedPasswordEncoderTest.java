@@ -0,0 +1,107 @@
+package com.back.global.security;
+
+import com.back.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowPasswordEncoder delegate = new SlowPasswordEncoder();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 기다리지 않고 503")
+    void t1() throws Exception {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, 5000, meterRegistry)) {
+            // 1번째 요청은 스레드를 점유
+            Future<String> running = callers.submit(() -> encoder.encode("slow"));
+            assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 2번째 요청은 대기열에 들어감
+            Future<String> queued = callers.submit(() -> encoder.encode("fast"));
+            awaitQueued(1);
+
+            // 3번째 요청은 거절
+            long startedAt = System.nanoTime();
+
+            assertThatThrownBy(() -> encoder.encode("fast"))
+                    .isInstanceOf(ServiceException.class)
+                    .satisfies(e -> assertThat(((ServiceException) e).getRsData().code()).isEqualTo(503));
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+
+            // 앞선 요청들은 정상 처리
+            delegate.release.countDown();
+
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{slow}slow");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{slow}fast");
+        }
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 503, 작업을 중단하고 스레드를 돌려줌")
+    void t2() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, 200, meterRegistry)) {
+            assertThatThrownBy(() -> encoder.matches("slow", "{slow}slow"))
+                    .isInstanceOf(ServiceException.class)
+                    .satisfies(e -> assertThat(((ServiceException) e).getRsData().code()).isEqualTo(503));
+
+            // 중단된 작업이 스레드를 계속 점유하고 있다면 이 요청도 제한 시간을 넘김
+            assertThat(encoder.matches("fast", "{slow}fast")).isTrue();
+
+            assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * "slow" 는 release 될 때까지 멈춰 있는 PasswordEncoder
+     */
+    private static class SlowPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if ("slow".contentEquals(rawPassword)) {
+                started.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            return "{slow}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
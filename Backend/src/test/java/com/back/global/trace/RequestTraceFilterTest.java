@@ -0,0 +1,138 @@
+package com.back.global.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@ExtendWith(OutputCaptureExtension.class)
+@AutoConfigureMockMvc
+@Transactional
+public class RequestTraceFilterTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private RequestTraceFilter requestTraceFilter;
+
+    @Test
+    @DisplayName("샘플링된 요청은 Server-Timing 헤더에 구간별 소요 시간 포함")
+    @WithUserDetails("user1@gmail.com")
+    void t1() throws Exception {
+        ReflectionTestUtils.setField(requestTraceFilter, "sampleRate", 1.0);
+
+        ResultActions resultActions;
+
+        try {
+            resultActions = mockMvc
+                    .perform(get("/api/members/orders"))
+                    .andDo(print());
+        } finally {
+            ReflectionTestUtils.setField(requestTraceFilter, "sampleRate", 0.0);
+        }
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("handler;dur="),
+                        containsString("db;dur="),
+                        containsString("serialize;dur="),
+                        containsString("total;dur=")
+                )))
+                .andExpect(header().doesNotExist(RequestTraceFilter.DEBUG_ID_HEADER))
+                .andExpect(jsonPath("$.code").value(200)); // 버퍼에 모은 본문도 그대로 전달
+    }
+
+    @Test
+    @DisplayName("샘플링하지 않는 요청은 Server-Timing 헤더 없음")
+    @WithUserDetails("user1@gmail.com")
+    void t2() throws Exception {
+        mockMvc
+                .perform(get("/api/members/orders"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
+
+    @Test
+    @DisplayName("디버그 헤더 - 관리자 요청은 해당 요청만 추적")
+    @WithUserDetails("admin@gmail.com")
+    void t3(CapturedOutput output) throws Exception {
+        int outputStartedAt = output.getOut().length();
+
+        mockMvc
+                .perform(
+                        get("/api/adm/orders")
+                                .header(RequestTraceFilter.DEBUG_HEADER, "1")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestTraceFilter.DEBUG_ID_HEADER))
+                .andExpect(header().string("Server-Timing", containsString("db;dur=")));
+
+        assertThat(output.getOut().substring(outputStartedAt)).contains("debug-trace");
+    }
+
+    @Test
+    @DisplayName("디버그 헤더 - 관리자가 아니면 무시")
+    @WithUserDetails("user1@gmail.com")
+    void t4() throws Exception {
+        mockMvc
+                .perform(
+                        get("/api/members/orders")
+                                .header(RequestTraceFilter.DEBUG_HEADER, "1")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(RequestTraceFilter.DEBUG_ID_HEADER))
+                .andExpect(header().doesNotExist("Server-Timing"))
+                .andExpect(jsonPath("$.code").value(200));
+    }
+
+    @Test
+    @DisplayName("디버그 헤더 - 관리자가 아니거나 인증 전이면 SQL, 인증 정보를 로그로 남기지 않음")
+    void t5(CapturedOutput output) throws Exception {
+        int outputStartedAt = output.getOut().length();
+
+        // API 키로 인증하는 요청 (인증 과정에서 apiKey로 회원을 조회)
+        mockMvc
+                .perform(
+                        get("/api/members/orders")
+                                .header("Authorization", "Bearer user2@gmail.com")
+                                .header(RequestTraceFilter.DEBUG_HEADER, "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(RequestTraceFilter.DEBUG_ID_HEADER));
+
+        // 익명 요청
+        mockMvc
+                .perform(
+                        get("/api/products/1")
+                                .header(RequestTraceFilter.DEBUG_HEADER, "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(RequestTraceFilter.DEBUG_ID_HEADER))
+                .andExpect(header().doesNotExist("Server-Timing"));
+
+        assertThat(output.getOut().substring(outputStartedAt))
+                .doesNotContain("debug-trace")
+                .doesNotContain("user2@gmail.com");
+    }
+}
@@ -0,0 +1,41 @@
+package com.back.standard.rateLimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenBucketRateLimiterTest {
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("키가 가득 차면 새 키는 거절, 정리는 1초에 한 번만 시도")
+    void t1() {
+        // 용량 1, 초당 1개 -> 사용한 버킷은 1초 뒤 다시 가득 참
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 2);
+
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("b", 0)).isZero();
+
+        // 정리할 버킷이 없으므로 거절
+        assertThat(limiter.tryAcquire("c", 500 * MILLIS)).isPositive();
+
+        // a, b는 다 채워졌지만 직전 정리 후 1초가 지나지 않아 정리하지 않음
+        assertThat(limiter.tryAcquire("d", 1200 * MILLIS)).isPositive();
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // 정리 후 새 키 허용
+        assertThat(limiter.tryAcquire("e", 1600 * MILLIS)).isZero();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 있는 키는 키가 가득 차 있어도 평소대로 제한")
+    void t2() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 1);
+
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 100 * MILLIS)).isPositive();
+        assertThat(limiter.tryAcquire("a", 1000 * MILLIS)).isZero();
+    }
+}
@@ -8,4 +8,71 @@ const client = createClient<paths>({
   credentials: "include",
 });
 
-export default client;
\ No newline at end of file
+// 액세스 토큰이 만료되어 401이 오면 리프레시 토큰(쿠키)으로 갱신한 뒤 한 번만 다시 요청
+// 동시에 여러 요청이 401을 받아도 갱신 요청은 하나만 보낸다 (리프레시 토큰은 한 번만 사용 가능)
+// 갱신에 실패하면 인증 쿠키를 지우고(로그아웃) 다시 로그인할 때까지 갱신을 시도하지 않는다
+const AUTH_PATHS = ["/api/members/login", "/api/members/logout", "/api/members/join", "/api/members/refresh"];
+const retryableRequests = new Map<string, Request>();
+let refreshing: Promise<boolean> | null = null;
+let sessionExpired = false;
+
+// 세션이 만료되어 로그아웃 처리됐을 때 발생 (UserContext에서 사용자 정보 초기화)
+export const SESSION_EXPIRED_EVENT = "auth:session-expired";
+
+const expireSession = async () => {
+  sessionExpired = true;
+
+  // 인증 쿠키는 HttpOnly라 서버에서 지워야 함
+  await fetch(`${NEXT_PUBLIC_API_BASE_URL}/api/members/logout`, {
+    method: "DELETE",
+    credentials: "include",
+  }).catch(() => undefined);
+
+  if (typeof window !== "undefined") {
+    window.dispatchEvent(new Event(SESSION_EXPIRED_EVENT));
+  }
+};
+
+const refreshAccessToken = () => {
+  if (!refreshing) {
+    refreshing = fetch(`${NEXT_PUBLIC_API_BASE_URL}/api/members/refresh`, {
+      method: "POST",
+      credentials: "include",
+    })
+      .then((response) => response.ok)
+      .catch(() => false)
+      .then(async (refreshed) => {
+        if (!refreshed) await expireSession();
+        return refreshed;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+
+  return refreshing;
+};
+
+client.use({
+  onRequest({ request, id }) {
+    if (!AUTH_PATHS.includes(new URL(request.url).pathname)) {
+      retryableRequests.set(id, request.clone());
+    }
+  },
+  async onResponse({ request, response, id }) {
+    const retryableRequest = retryableRequests.get(id);
+    retryableRequests.delete(id);
+
+    if (response.ok && new URL(request.url).pathname === "/api/members/login") {
+      sessionExpired = false;
+    }
+
+    if (response.status !== 401 || !retryableRequest || sessionExpired) return response;
+
+    if (!(await refreshAccessToken())) return response;
+
+    return fetch(retryableRequest);
+  },
+});
+
+export default client;
@@ -9,6 +9,7 @@ import {
   useEffect,
 } from "react";
 import { AuthService } from "@/src/services";
+import { SESSION_EXPIRED_EVENT } from "@/src/lib/backend/client";
 
 // UserContext: 인증/회원정보 관련 전역 상태 및 함수 제공
 
@@ -68,6 +69,14 @@ export const UserProvider = ({ children }: { children: ReactNode }) => {
     initializeUser();
   }, []);
 
+  // 토큰 갱신에 실패하면(세션 만료) 로그아웃 상태로 전환
+  useEffect(() => {
+    const handleSessionExpired = () => setUserState(null);
+
+    window.addEventListener(SESSION_EXPIRED_EVENT, handleSessionExpired);
+    return () => window.removeEventListener(SESSION_EXPIRED_EVENT, handleSessionExpired);
+  }, []);
+
   // 내부용: 사용자 정보 직접 설정
   const setUser = (user: UserInfo) => {
     setUserState(user);